@@ -0,0 +1,70 @@
+package com.example.catchme.config.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 해시 / 검증 비용 (password-hashing.* 기본값, SecurityConfig와 같은 PasswordEncoder)
+ *
+ * ✔ matches : 로그인 1회의 CPU 비용
+ * ✔ matchesOnExecutor : PasswordHashingExecutor 경유 (워커 전달 / 대기 비용 포함)
+ * ✔ encode : 가입 / 비밀번호 변경 / 재해시 1회의 CPU 비용
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "correct-horse-battery-staple";
+
+    @Param({"bcrypt", "argon2"})
+    public String algorithm;
+
+    private PasswordEncoder passwordEncoder;
+    private PasswordHashingExecutor passwordHashingExecutor;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setAlgorithm(algorithm);
+
+        // 필터 체인 협력 객체는 사용하지 않음
+        passwordEncoder = new SecurityConfig(null, null, null, properties).passwordEncoder();
+        passwordHashingExecutor = new PasswordHashingExecutor(passwordEncoder, properties, new SimpleMeterRegistry());
+        encodedPassword = passwordEncoder.encode(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHashingExecutor.shutdown();
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    public boolean matchesOnExecutor() {
+        return passwordHashingExecutor.matches(PASSWORD, encodedPassword, PasswordHashingExecutor.Priority.LOGIN);
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(PASSWORD);
+    }
+}
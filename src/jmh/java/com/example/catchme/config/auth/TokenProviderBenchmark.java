@@ -0,0 +1,66 @@
+package com.example.catchme.config.auth;
+
+import com.example.catchme.model.Role;
+import com.example.catchme.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 JWT 검증 비용: 시작 시 1회 만든 key / parser 재사용 vs 요청마다 생성 (기존 방식)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenProviderBenchmark {
+
+    private JwtProperties jwtProperties;
+    private TokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("catchme-benchmark");
+        jwtProperties.setSecretKey("benchmark-secret-key-benchmark-secret-key-0123456789");
+
+        // 파싱 경로만 측정하므로 사용자 조회 / 토큰 버전 협력 객체는 사용하지 않음
+        tokenProvider = new TokenProvider(jwtProperties, null, null, null);
+        tokenProvider.init();
+
+        User user = User.builder()
+                .email("patient@example.com")
+                .password("{noop}password")
+                .name("patient")
+                .role(Role.USER)
+                .build();
+        token = tokenProvider.generateToken(user, Duration.ofHours(1));
+    }
+
+    @Benchmark
+    public Claims cachedParser() {
+        return tokenProvider.parseClaims(token).orElseThrow();
+    }
+
+    @Benchmark
+    public Claims parserPerRequest() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.dto.RawSensorDataRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV 행 인코딩: SensorCsvEncoder vs 기존 String.format 방식 (샘플 1개당 시간)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SensorCsvEncoderBenchmark {
+
+    private static final int SAMPLES = 3000;
+
+    private RawSensorDataRequest[] samples;
+    private CountingOutputStream out;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(20251226L);
+        samples = new RawSensorDataRequest[SAMPLES];
+        long timestamp = 1_766_745_000_000L;
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = new RawSensorDataRequest(
+                    Long.toString(timestamp + i * 20L),
+                    random.nextInt(1024),
+                    random.nextInt(1024),
+                    random.nextInt(1024),
+                    random.nextInt(1024),
+                    random.nextGaussian() * 0.3,
+                    random.nextGaussian() * 0.3,
+                    0.98 + random.nextGaussian() * 0.05
+            );
+        }
+        out = new CountingOutputStream();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public long encoder() throws IOException {
+        SensorCsvEncoder encoder = new SensorCsvEncoder(out);
+        encoder.start();
+        for (RawSensorDataRequest sample : samples) {
+            encoder.write(sample);
+        }
+        encoder.finish();
+        return out.count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public long stringFormat() throws IOException {
+        out.write("timestamp,p1,p2,p3,p4,acc_x,acc_y,acc_z\n".getBytes(StandardCharsets.UTF_8));
+        for (RawSensorDataRequest sample : samples) {
+            out.write(String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%.3f,%.3f,%.3f\n",
+                    sample.getTimestamp(),
+                    sample.getPressure1(),
+                    sample.getPressure2(),
+                    sample.getPressure3(),
+                    sample.getPressure4(),
+                    sample.getAccX(),
+                    sample.getAccY(),
+                    sample.getAccZ()
+            ).getBytes(StandardCharsets.UTF_8));
+        }
+        out.flush();
+        return out.count;
+    }
+
+    /**
+     * 기록된 바이트 수만 셈 (I/O 비용 제외, 반환값으로 dead-code 제거 방지)
+     */
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
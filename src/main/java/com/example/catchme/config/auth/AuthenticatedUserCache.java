@@ -0,0 +1,114 @@
+package com.example.catchme.config.auth;
+
+import com.example.catchme.model.User;
+import com.example.catchme.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JWT 인증 시 principal(User)을 짧은 시간 동안 재사용하기 위한 캐시
+ *
+ * ✔ 요청마다 UserRepository를 조회하지 않도록 id 기준으로 보관
+ * ✔ 최대 크기 제한 + TTL 만료 (TTL이 지나면 DB에서 다시 조회)
+ * ✔ 비밀번호 변경 / 탈퇴 / 보호자 연동 시 커밋 직후 명시적으로 무효화
+ */
+@Component
+public class AuthenticatedUserCache {
+
+    private final UserRepository userRepository;
+    private final long ttlNanos;
+    private final int maxSize;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 무효화 발생 횟수
+     * → 조회 도중 무효화가 일어나면 방금 읽은(이전 상태의) User를 캐시에 넣지 않기 위함
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public AuthenticatedUserCache(UserRepository userRepository, JwtProperties jwtProperties) {
+        this.userRepository = userRepository;
+        this.ttlNanos = jwtProperties.getUserCacheTtl().toNanos();
+        this.maxSize = jwtProperties.getUserCacheMaxSize();
+    }
+
+    /**
+     * 캐시된 User 반환, 없거나 만료되었으면 DB에서 조회 후 보관
+     *
+     * @return 탈퇴 등으로 사용자가 없으면 empty
+     */
+    public Optional<User> get(Long userId) {
+        long now = System.nanoTime();
+
+        Entry entry = entries.get(userId);
+        if (entry != null && now - entry.cachedAtNanos < ttlNanos) {
+            return Optional.of(entry.user);
+        }
+
+        long observed = invalidations.get();
+        Optional<User> user = userRepository.findById(userId);
+
+        if (user.isPresent() && ttlNanos > 0 && invalidations.get() == observed) {
+            makeRoom(now);
+            entries.put(userId, new Entry(user.get(), now));
+        }
+        return user;
+    }
+
+    /**
+     * 즉시 무효화 + 진행 중인 트랜잭션이 있으면 커밋 직후 한 번 더 무효화
+     * (커밋 전에 다른 요청이 이전 상태를 다시 캐시하는 경우 방지)
+     */
+    public void evictAfterCommit(Long... userIds) {
+        evict(userIds);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userIds);
+                }
+            });
+        }
+    }
+
+    public void evict(Long... userIds) {
+        invalidations.incrementAndGet();
+        for (Long userId : userIds) {
+            if (userId != null) {
+                entries.remove(userId);
+            }
+        }
+    }
+
+    private void makeRoom(long now) {
+        if (entries.size() < maxSize) {
+            return;
+        }
+
+        // 1️⃣ 만료된 항목 정리
+        entries.values().removeIf(entry -> now - entry.cachedAtNanos >= ttlNanos);
+
+        // 2️⃣ 그래도 가득 차 있으면 임의 항목 제거 (다음 요청에서 다시 조회될 뿐)
+        Iterator<Long> iterator = entries.keySet().iterator();
+        while (entries.size() >= maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final User user;
+        private final long cachedAtNanos;
+    }
+}
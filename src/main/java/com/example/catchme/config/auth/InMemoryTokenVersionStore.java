@@ -0,0 +1,71 @@
+package com.example.catchme.config.auth;
+
+import com.example.catchme.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 로컬 메모리 기반 TokenVersionStore
+ *
+ * ✔ 조회는 메모리 O(1), 없거나 TTL이 지난 항목만 DB에서 버전 컬럼 1개 조회
+ * ✔ 같은 노드의 변경은 publish / revokeAll로 즉시 반영
+ * ✔ 다른 노드의 변경은 최대 TTL 이후 DB 재조회로 반영
+ */
+@Component
+public class InMemoryTokenVersionStore implements TokenVersionStore {
+
+    private final UserRepository userRepository;
+    private final long ttlNanos;
+    private final int maxSize;
+
+    private final Map<Long, Entry> versions = new ConcurrentHashMap<>();
+
+    public InMemoryTokenVersionStore(UserRepository userRepository, JwtProperties jwtProperties) {
+        this.userRepository = userRepository;
+        this.ttlNanos = jwtProperties.getTokenVersionTtl().toNanos();
+        this.maxSize = jwtProperties.getUserCacheMaxSize();
+    }
+
+    @Override
+    public long currentVersion(Long userId) {
+        long now = System.nanoTime();
+
+        Entry entry = versions.get(userId);
+        if (entry != null && now - entry.loadedAtNanos < ttlNanos) {
+            return entry.version;
+        }
+
+        long version = userRepository.findTokenVersionById(userId).orElse(REVOKED);
+        // 조회 도중 publish / revokeAll 된 값은 덮어쓰지 않음
+        versions.compute(userId, (id, current) ->
+                current != null && current != entry ? current : new Entry(version, now)
+        );
+        evictExpiredIfFull(now);
+        return versions.get(userId).version;
+    }
+
+    @Override
+    public void publish(Long userId, long version) {
+        versions.put(userId, new Entry(version, System.nanoTime()));
+    }
+
+    @Override
+    public void revokeAll(Long userId) {
+        publish(userId, REVOKED);
+    }
+
+    private void evictExpiredIfFull(long now) {
+        if (versions.size() > maxSize) {
+            versions.values().removeIf(entry -> now - entry.loadedAtNanos >= ttlNanos);
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final long version;
+        private final long loadedAtNanos;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.catchme.config.auth;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,6 +13,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * JWT 인증 필터
@@ -42,18 +44,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1️⃣ HTTP 요청 헤더에서 JWT 추출
         String token = resolveToken(request);
 
-        // 2️⃣ 토큰이 존재하고 + 유효하다면 인증 처리
-        if (token != null && tokenProvider.validateToken(token)) {
+        // 2️⃣ 토큰이 존재하면 1회 파싱으로 검증 + Claims 추출
+        Optional<Claims> claims = token != null
+                ? tokenProvider.parseClaims(token)
+                : Optional.empty();
 
-            // 3️⃣ JWT → Authentication 객체 생성
+        if (claims.isPresent()) {
+
+            // 3️⃣ 검증된 Claims → Authentication 객체 생성 (재파싱 없음)
             Authentication authentication =
-                    tokenProvider.getAuthentication(token);
+                    tokenProvider.getAuthentication(token, claims.get());
 
             // 4️⃣ SecurityContext에 인증 정보 저장
             // → 이 시점 이후로 Spring Security는
             //   "인증된 사용자"로 요청을 처리함
-            SecurityContextHolder.getContext()
-                    .setAuthentication(authentication);
+            // → 탈퇴 / 권한 변경된 사용자는 null → 미인증(401) 처리
+            if (authentication != null) {
+                SecurityContextHolder.getContext()
+                        .setAuthentication(authentication);
+            }
         }
 
         // 5️⃣ 다음 필터로 요청 전달
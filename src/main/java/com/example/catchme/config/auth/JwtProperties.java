@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Configuration
@@ -13,4 +15,13 @@ public class JwtProperties {
 
     private String issuer;
     private String secretKey;
+
+    /** 인증된 사용자(principal) 캐시 유지 시간 (0이면 캐시 사용 안 함) */
+    private Duration userCacheTtl = Duration.ofSeconds(30);
+
+    /** 인증된 사용자(principal) 캐시 최대 항목 수 */
+    private int userCacheMaxSize = 10_000;
+
+    /** 토큰 버전 메모리 캐시 유지 시간 (다른 노드의 토큰 폐기가 반영되는 최대 지연) */
+    private Duration tokenVersionTtl = Duration.ofSeconds(30);
 }
\ No newline at end of file
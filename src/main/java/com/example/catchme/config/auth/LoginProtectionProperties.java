@@ -0,0 +1,52 @@
+package com.example.catchme.config.auth;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * application.yaml(login-protection.*) 에서 주입받는 로그인 보호 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "login-protection")
+public class LoginProtectionProperties {
+
+    private final Bucket email = new Bucket(10, Duration.ofSeconds(30));
+    private final Bucket ip = new Bucket(30, Duration.ofSeconds(2));
+
+    /** 버킷 맵 하나당 최대 항목 수 (초과 시 가득 찬(유휴) 버킷부터 제거, 그래도 가득 차면 새 키는 공유 버킷 1개로 제한) */
+    private int maxEntries = 100_000;
+
+    /** 유휴 버킷 정리 주기 */
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    /** X-Forwarded-For 첫 번째 주소를 클라이언트 IP로 사용할지 여부 (프록시 뒤에서만 true) */
+    private boolean trustForwardedFor = false;
+
+    /** 연속 실패 시 계정을 잠그는 횟수 */
+    private int maxFailedAttempts = 5;
+
+    /** 계정 잠금 시간 */
+    private Duration lockDuration = Duration.ofMinutes(15);
+
+    @Getter
+    @Setter
+    public static class Bucket {
+
+        /** 연속으로 허용하는 최대 시도 수 (버킷 크기) */
+        private int capacity;
+
+        /** 토큰 1개가 다시 채워지는 시간 */
+        private Duration refillInterval;
+
+        Bucket(int capacity, Duration refillInterval) {
+            this.capacity = capacity;
+            this.refillInterval = refillInterval;
+        }
+    }
+}
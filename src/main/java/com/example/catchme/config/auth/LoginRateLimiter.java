@@ -0,0 +1,119 @@
+package com.example.catchme.config.auth;
+
+import com.example.catchme.exception.exceptions.LoginRateLimitedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 시도 제한 (email / IP 별 token bucket)
+ *
+ * ✔ DB 조회 / BCrypt 검증 전에 호출 → 초과 시 LoginRateLimitedException(429)
+ * ✔ 버킷은 AtomicLong 1개(GCRA: 다음 토큰이 허용되는 시각)로 표현 → CAS만 사용, 잠금 없음
+ * ✔ 가득 찬(유휴) 버킷은 주기적으로 제거, 항목 수 상한 유지
+ * ✔ 상한에 도달해 추적하지 못하는 새 키는 공유 overflow 버킷 1개로 함께 제한 (키를 바꿔가며 우회 불가)
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final Limiter emailLimiter;
+    private final Limiter ipLimiter;
+
+    public LoginRateLimiter(LoginProtectionProperties properties, MeterRegistry meterRegistry) {
+        this.emailLimiter = new Limiter("email", properties.getEmail(), properties.getMaxEntries(), meterRegistry);
+        this.ipLimiter = new Limiter("ip", properties.getIp(), properties.getMaxEntries(), meterRegistry);
+    }
+
+    /**
+     * 로그인 시도 1회 허용 여부 확인 (IP 먼저, 그다음 email)
+     */
+    public void checkLogin(String email, String clientIp) {
+        checkLogin(email, clientIp, System.nanoTime());
+    }
+
+    /** now는 System.nanoTime() 기준 (테스트에서 시각 고정) */
+    void checkLogin(String email, String clientIp, long now) {
+        if (clientIp != null) {
+            ipLimiter.acquire(clientIp, now);
+        }
+        if (email != null) {
+            emailLimiter.acquire(email.trim().toLowerCase(Locale.ROOT), now);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${login-protection.sweep-interval:PT1M}")
+    void sweepIdleBuckets() {
+        sweepIdleBuckets(System.nanoTime());
+    }
+
+    void sweepIdleBuckets(long now) {
+        emailLimiter.sweep(now);
+        ipLimiter.sweep(now);
+    }
+
+    private static class Limiter {
+
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        /** 맵에 넣지 못한 키들이 나눠 쓰는 버킷 (처음에는 가득 찬 상태) */
+        private final AtomicLong overflowBucket = new AtomicLong(Long.MIN_VALUE);
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final int maxEntries;
+        private final Counter rejectedCounter;
+
+        Limiter(String type, LoginProtectionProperties.Bucket bucket, int maxEntries, MeterRegistry meterRegistry) {
+            this.intervalNanos = bucket.getRefillInterval().toNanos();
+            this.burstNanos = intervalNanos * Math.max(0, bucket.getCapacity() - 1);
+            this.maxEntries = maxEntries;
+            this.rejectedCounter = Counter.builder("auth.login.rate-limited")
+                    .tag("key", type)
+                    .register(meterRegistry);
+        }
+
+        void acquire(String key, long now) {
+            AtomicLong bucket = buckets.get(key);
+            if (bucket == null) {
+                if (buckets.size() >= maxEntries) {
+                    sweep(now);
+                }
+                if (buckets.size() >= maxEntries) {
+                    // 상한 초과 → 새 키는 공유 버킷으로 제한 (추적하지 않고 통과시키지 않음)
+                    bucket = overflowBucket;
+                } else {
+                    bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+                }
+            }
+
+            // tat(theoretical arrival time): 버킷이 다시 가득 차는 시각 기준으로 허용 여부 판단
+            while (true) {
+                long tat = bucket.get();
+                long newTat = Math.max(tat, now) + intervalNanos;
+
+                if (newTat - now > burstNanos + intervalNanos) {
+                    rejectedCounter.increment();
+                    long retryAfterNanos = newTat - now - burstNanos - intervalNanos;
+                    throw new LoginRateLimitedException(
+                            "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.",
+                            Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos) + 1)
+                    );
+                }
+                if (bucket.compareAndSet(tat, newTat)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * tat가 지난 버킷 = 이미 가득 찬 상태 → 지워도 다음 시도에서 같은 상태로 다시 생성됨
+         */
+        void sweep(long now) {
+            buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+        }
+    }
+}
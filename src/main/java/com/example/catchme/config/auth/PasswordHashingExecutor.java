@@ -0,0 +1,248 @@
+package com.example.catchme.config.auth;
+
+import com.example.catchme.exception.exceptions.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * BCrypt 해시 / 검증 전용 실행기
+ *
+ * ✔ 고정 크기 워커 풀에서만 해시 → 로그인 폭주 시에도 센서 업로드가 쓸 CPU를 남김
+ * ✔ 대기 요청 수 상한 초과 시 PasswordHashingBusyException(503)으로 즉시 거절
+ * ✔ 우선순위 큐: 로그인 > 비밀번호 변경 > 회원가입 > 재해시 (같은 우선순위는 먼저 온 순서)
+ *
+ * 메트릭:
+ * - auth.password.hash.wait     : 큐 대기 시간
+ * - auth.password.hash.duration : 해시 / 검증 소요 시간
+ * - auth.password.hash.pending  : 대기 + 실행 중인 요청 수
+ * - auth.password.hash.rejected : 포화 / 대기 시간 초과로 거절된 요청 수
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    public enum Priority {
+        LOGIN,
+        PASSWORD_CHANGE,
+        SIGNUP,
+        /** 로그인 성공 후 해시 업그레이드 (포화 시 생략 가능) */
+        REHASH
+    }
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int workers;
+    private final int capacity;
+    private final long waitTimeoutNanos;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Map<Priority, Timer> waitTimers = new EnumMap<>(Priority.class);
+    private final Map<Priority, Timer> hashTimers = new EnumMap<>(Priority.class);
+    private final Counter rejectedCounter;
+
+    public PasswordHashingExecutor(
+            PasswordEncoder passwordEncoder,
+            PasswordHashingProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.workers = properties.getWorkers();
+        this.capacity = workers + properties.getQueueCapacity();
+        this.waitTimeoutNanos = properties.getWaitTimeout().toNanos();
+
+        // 큐 크기는 pending 카운터로 제한하므로 PriorityBlockingQueue(무제한)를 사용
+        this.executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(),
+                new CustomizableThreadFactory("password-hash-")
+        );
+
+        for (Priority priority : Priority.values()) {
+            String operation = priority.name().toLowerCase();
+            waitTimers.put(priority, Timer.builder("auth.password.hash.wait")
+                    .description("비밀번호 해시 큐 대기 시간")
+                    .tag("operation", operation)
+                    .register(meterRegistry));
+            hashTimers.put(priority, Timer.builder("auth.password.hash.duration")
+                    .description("비밀번호 해시 / 검증 소요 시간")
+                    .tag("operation", operation)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("auth.password.hash.pending", pending, AtomicInteger::get)
+                .description("대기 + 실행 중인 비밀번호 해시 요청 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hash.rejected")
+                .register(meterRegistry);
+    }
+
+    public String encode(CharSequence rawPassword, Priority priority) {
+        return execute(() -> passwordEncoder.encode(rawPassword), priority);
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword, Priority priority) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword), priority);
+    }
+
+    /**
+     * 결과를 기다리지 않는 해시 (응답과 무관한 재해시용)
+     * → 포화 시 바로 PasswordHashingBusyException, 완료되면 해시 워커 스레드에서 onEncoded 호출
+     */
+    public void encodeInBackground(CharSequence rawPassword, Priority priority, Consumer<String> onEncoded) {
+        submit(() -> {
+            String encoded = passwordEncoder.encode(rawPassword);
+            onEncoded.accept(encoded);
+            return encoded;
+        }, priority);
+    }
+
+    /**
+     * 여러 비밀번호를 워커 수만큼씩 병렬로 해시 (일괄 등록용)
+     * → 한 번에 워커 수 이상 등록하지 않으므로 다른 요청의 대기 자리를 차지하지 않음
+     */
+    public List<String> encodeAll(List<String> rawPasswords, Priority priority) {
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+
+        for (int from = 0; from < rawPasswords.size(); from += workers) {
+            List<HashTask<String>> window = new ArrayList<>(workers);
+            try {
+                for (String rawPassword : rawPasswords.subList(from, Math.min(from + workers, rawPasswords.size()))) {
+                    window.add(submit(() -> passwordEncoder.encode(rawPassword), priority));
+                }
+                for (HashTask<String> task : window) {
+                    encoded.add(await(task));
+                }
+            } catch (RuntimeException e) {
+                window.forEach(task -> task.cancel(false));
+                throw e;
+            }
+        }
+        return encoded;
+    }
+
+    /**
+     * 저장된 해시가 현재 알고리즘 / 비용 설정보다 약한지 여부 (해시 계산 없음)
+     */
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> work, Priority priority) {
+        return await(submit(work, priority));
+    }
+
+    private <T> HashTask<T> submit(Callable<T> work, Priority priority) {
+
+        // 1️⃣ 입장 제어: 상한 초과 시 큐에 넣지 않고 바로 거절
+        if (pending.incrementAndGet() > capacity) {
+            pending.decrementAndGet();
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        // 2️⃣ 우선순위 작업 등록
+        long enqueuedAt = System.nanoTime();
+        HashTask<T> task = new HashTask<>(() -> {
+            long startedAt = System.nanoTime();
+            waitTimers.get(priority).record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+            try {
+                return work.call();
+            } finally {
+                hashTimers.get(priority).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }, priority, sequence.getAndIncrement());
+
+        try {
+            executor.execute(task);
+        } catch (RuntimeException e) {
+            pending.decrementAndGet();
+            throw e;
+        }
+        return task;
+    }
+
+    private <T> T await(HashTask<T> task) {
+
+        // 3️⃣ 결과 대기 (시간 초과 시 아직 시작 전이면 취소되어 워커를 쓰지 않음)
+        //    이미 실행 중인 작업은 끝날 때까지 pending 자리를 유지
+        try {
+            return task.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+
+        } catch (TimeoutException e) {
+            task.cancel(false);
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            task.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해주세요.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 우선순위 → 등록 순서로 정렬되는 작업
+     *
+     * pending은 워커가 run()을 마칠 때 반환한다.
+     * → 실행 중에 취소돼도 해시가 끝날 때까지, 시작 전에 취소되면 워커가 큐에서 꺼낼 때까지 자리를 차지함
+     */
+    private class HashTask<T> extends FutureTask<T> implements Comparable<HashTask<?>> {
+
+        private final Priority priority;
+        private final long sequence;
+
+        HashTask(Callable<T> callable, Priority priority, long sequence) {
+            super(callable);
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            try {
+                super.run();
+            } finally {
+                pending.decrementAndGet();
+            }
+        }
+
+        @Override
+        public int compareTo(HashTask<?> other) {
+            int byPriority = Integer.compare(priority.ordinal(), other.priority.ordinal());
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.catchme.config.auth;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * application.yaml(password-hashing.*) 에서 주입받는 비밀번호 해시 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "password-hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * 새로 저장하는 비밀번호의 해시 알고리즘 (bcrypt / argon2)
+     * → 다른 알고리즘 / 낮은 비용으로 저장된 비밀번호는 로그인 성공 시 이 설정으로 재해시
+     */
+    private String algorithm = "bcrypt";
+
+    /** BCrypt strength (log2 반복 횟수, 1 증가할 때마다 해시 비용 2배) */
+    private int bcryptStrength = 10;
+
+    private final Argon2 argon2 = new Argon2();
+
+    /** 해시 전용 워커 스레드 수 (동시에 해시에 쓰는 CPU 코어 상한) */
+    private int workers = 2;
+
+    /** 워커를 기다릴 수 있는 최대 요청 수 (초과 시 즉시 503) */
+    private int queueCapacity = 32;
+
+    /** 요청 스레드가 해시 결과를 기다리는 최대 시간 */
+    private Duration waitTimeout = Duration.ofSeconds(3);
+
+    @Getter
+    @Setter
+    public static class Argon2 {
+
+        private int saltLength = 16;
+        private int hashLength = 32;
+        private int parallelism = 1;
+
+        /** 메모리 사용량 (KiB) */
+        private int memory = 19_456;
+
+        private int iterations = 2;
+    }
+}
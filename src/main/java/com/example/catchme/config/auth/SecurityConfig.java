@@ -1,16 +1,21 @@
 package com.example.catchme.config.auth;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Map;
+
 /**
  * Spring Security 설정
  *
@@ -26,6 +31,7 @@ public class SecurityConfig {
     private final TokenProvider tokenProvider;
     private final JwtAuthenticationEntryPoint authenticationEntryPoint;
     private final JwtAccessDeniedHandler accessDeniedHandler;
+    private final PasswordHashingProperties passwordHashingProperties;
     /**
      * Security Filter Chain 설정
      */
@@ -68,6 +74,9 @@ public class SecurityConfig {
                                 "/h2-console/**"
                         ).permitAll()
 
+                        // SSE 등 비동기 응답의 재디스패치 (최초 요청에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // 그 외 모든 요청은 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -90,8 +99,35 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 알고리즘 prefix({bcrypt} / {argon2})로 구분하는 위임 PasswordEncoder
+     *
+     * ✔ 새 비밀번호는 password-hashing.algorithm 으로 저장
+     * ✔ prefix 없는 기존 해시는 BCrypt로 검증
+     * ✔ upgradeEncoding()이 true인 해시는 로그인 성공 시 재해시 (AuthServiceImpl)
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        BCryptPasswordEncoder bcrypt =
+                new BCryptPasswordEncoder(passwordHashingProperties.getBcryptStrength());
+
+        PasswordHashingProperties.Argon2 argon2 = passwordHashingProperties.getArgon2();
+        Argon2PasswordEncoder argon2Encoder = new Argon2PasswordEncoder(
+                argon2.getSaltLength(),
+                argon2.getHashLength(),
+                argon2.getParallelism(),
+                argon2.getMemory(),
+                argon2.getIterations()
+        );
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(
+                passwordHashingProperties.getAlgorithm(),
+                Map.of(
+                        "bcrypt", bcrypt,
+                        "argon2", argon2Encoder
+                )
+        );
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 }
@@ -3,6 +3,7 @@ package com.example.catchme.config.auth;
 import com.example.catchme.model.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -15,12 +16,12 @@ import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.time.Duration;
 import java.util.Date;
+import java.util.Optional;
 
 /**
  * JWT 토큰의 생성 / 검증 / 인증 객체 변환을 담당하는 클래스
  *
- * ✔ Access Token only 구조
- * ✔ Refresh Token 사용하지 않음 (의도적 단순화)
+ * ✔ Access Token 생성 / 검증 (Refresh Token은 AuthServiceImpl에서 DB 해시로 관리)
  * ✔ Stateless 인증
  * ✔ UserDetailsService를 통한 서버 기준 사용자 검증
  */
@@ -45,6 +46,39 @@ public class TokenProvider {
      */
     private final UserDetailsService userDetailsService;
 
+    /**
+     * id 기준 principal 캐시 (요청마다 DB 조회하지 않기 위함)
+     */
+    private final AuthenticatedUserCache authenticatedUserCache;
+
+    /**
+     * 사용자별 현재 토큰 버전 (메모리 O(1) 조회로 폐기 여부 확인)
+     */
+    private final TokenVersionStore tokenVersionStore;
+
+    /**
+     * 서명 키와 파서는 설정값으로만 결정되고 불변이므로 시작 시 1회만 생성
+     *
+     * → 요청마다 Keys.hmacShaKeyFor / parserBuilder().build() 를 반복하지 않음
+     * → JwtParser는 불변 객체라 여러 요청 스레드에서 공유해도 안전
+     */
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    /**
+     * 문자열 기반 secretKey를 HS256 알고리즘에 맞는 Key 객체로 변환
+     * (키 길이(256bit) 자동 검증, JJWT 0.11+ 권장 방식)
+     */
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(
+                jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8)
+        );
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
     /* =========================================================
        1. JWT 토큰 생성
        ========================================================= */
@@ -71,13 +105,16 @@ public class TokenProvider {
                 .setSubject(user.getEmail())           // sub: 사용자 식별자 (email)
 
                 // [Payload - 커스텀 클레임]
-                // → DB 조회 시 사용할 수 있도록 사용자 id 포함
+                // → 캐시 조회 / 권한 확인에 사용할 수 있도록 사용자 id, 권한 포함
                 .claim("id", user.getId())
+                .claim("role", user.getRole().name())
+                // → 토큰 폐기 여부 확인용 버전 (TokenVersionStore와 비교)
+                .claim("ver", user.getTokenVersion())
 
                 // [Signature]
                 // 문자열 secretKey를 그대로 쓰지 않고,
                 // 암호학적으로 안전한 Key 객체로 변환하여 사용
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
 
                 .compact();
     }
@@ -87,26 +124,34 @@ public class TokenProvider {
        ========================================================= */
 
     /**
-     * JWT 토큰의 서명, 만료 여부를 검증
+     * JWT 토큰을 1회 파싱하여 서명, 만료 여부를 검증하고 Claims를 반환
+     *
+     * → 필터에서는 이 결과를 getAuthentication(token, claims)에 그대로 넘겨
+     *   요청당 HMAC 검증이 한 번만 일어나도록 함
      *
      * @param token JWT 문자열
-     * @return 유효하면 true, 아니면 false
+     * @return 유효하면 Claims, 아니면 empty
      */
-    public boolean validateToken(String token) {
+    public Optional<Claims> parseClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey()) // 서명 키 설정
-                    .build()
-                    .parseClaimsJws(token);         // 파싱 시 모든 검증 수행
-
-            return true;
+            return Optional.of(jwtParser.parseClaimsJws(token).getBody()); // 파싱 시 모든 검증 수행
         } catch (JwtException | IllegalArgumentException e) {
             // 서명 불일치, 만료, 형식 오류 등
             log.debug("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
+    /**
+     * JWT 토큰의 서명, 만료 여부를 검증
+     *
+     * @param token JWT 문자열
+     * @return 유효하면 true, 아니면 false
+     */
+    public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
+    }
+
     /* =========================================================
        3. JWT → Spring Security Authentication 변환
        ========================================================= */
@@ -115,20 +160,48 @@ public class TokenProvider {
      * JWT 토큰을 기반으로 Spring Security Authentication 객체 생성
      *
      * 핵심 포인트:
-     * ✔ 토큰에서 email(sub)만 추출
-     * ✔ UserDetailsService를 통해 DB 기준 사용자 재조회
+     * ✔ 서명된 클레임(id, sub=email, role)으로 사용자 식별
+     * ✔ ver 클레임이 현재 토큰 버전과 다르면 폐기된 토큰으로 처리
+     * ✔ 사용자 상태는 AuthenticatedUserCache(짧은 TTL + 변경 시 무효화) 기준으로 확인
      * ✔ 토큰을 "신분증"처럼만 사용
      *
      * @param token JWT 문자열
-     * @return Authentication 객체
+     * @return Authentication 객체 (탈퇴 / 권한 변경 등으로 더 이상 유효하지 않으면 null)
      */
     public Authentication getAuthentication(String token) {
-        Claims claims = getClaims(token);
+        return getAuthentication(token, getClaims(token));
+    }
 
-        // JWT에 담긴 email(sub)을 기준으로
-        // 실제 UserDetails를 DB에서 다시 조회
-        UserDetails userDetails =
-                userDetailsService.loadUserByUsername(claims.getSubject());
+    /**
+     * parseClaims()로 이미 검증된 Claims로 Authentication 객체 생성 (재파싱 없음)
+     */
+    public Authentication getAuthentication(String token, Claims claims) {
+        Long userId = claims.get("id", Long.class);
+        String role = claims.get("role", String.class);
+
+        UserDetails userDetails;
+        if (userId == null || role == null) {
+            // 이전 형식 토큰 → email(sub) 기준으로 DB에서 다시 조회
+            userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        } else {
+            // 폐기된 토큰 (비밀번호 변경 / 탈퇴) → DB 조회 없이 거부
+            Long version = claims.get("ver", Long.class);
+            if (tokenVersionStore.currentVersion(userId) != (version != null ? version : 0L)) {
+                log.debug("JWT revoked: userId={}", userId);
+                return null;
+            }
+
+            // 클레임과 현재 사용자 상태가 다르면(탈퇴 / email / 권한 변경) 인증하지 않음
+            userDetails = authenticatedUserCache.get(userId)
+                    .filter(user -> user.getEmail().equals(claims.getSubject()))
+                    .filter(user -> user.getRole().name().equals(role))
+                    .orElse(null);
+
+            if (userDetails == null) {
+                log.debug("JWT principal no longer valid: userId={}", userId);
+                return null;
+            }
+        }
 
         // Spring Security가 인식하는 인증 객체 생성
         return new UsernamePasswordAuthenticationToken(
@@ -155,25 +228,6 @@ public class TokenProvider {
      * 내부적으로 서명 검증 및 만료 검증이 함께 수행됨
      */
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    /**
-     * 문자열 기반 secretKey를
-     * HS256 알고리즘에 맞는 Key 객체로 변환
-     *
-     * 이유:
-     * - 키 길이(256bit) 자동 검증
-     * - JJWT 0.11+ 권장 방식
-     * - 암호학적으로 명확한 타입 사용
-     */
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(
-                jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8)
-        );
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 }
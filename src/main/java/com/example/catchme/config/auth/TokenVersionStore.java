@@ -0,0 +1,30 @@
+package com.example.catchme.config.auth;
+
+/**
+ * 사용자별 토큰 버전 저장소
+ *
+ * ✔ JWT의 ver 클레임이 현재 버전과 다르면 해당 토큰은 폐기된 것으로 간주
+ * ✔ 비밀번호 변경 등으로 버전이 오르면 이전에 발급된 토큰은 모두 무효
+ * ✔ 기본 구현은 노드 로컬 메모리(InMemoryTokenVersionStore),
+ *   여러 노드에서 즉시 공유가 필요하면 공유 저장소 기반 구현으로 교체
+ */
+public interface TokenVersionStore {
+
+    /** 탈퇴 등으로 모든 토큰이 폐기된 사용자의 버전 */
+    long REVOKED = -1L;
+
+    /**
+     * 사용자의 현재 토큰 버전 (사용자가 없으면 REVOKED)
+     */
+    long currentVersion(Long userId);
+
+    /**
+     * DB에 커밋된 새 토큰 버전 반영
+     */
+    void publish(Long userId, long version);
+
+    /**
+     * 사용자의 모든 토큰 폐기 (탈퇴)
+     */
+    void revokeAll(Long userId);
+}
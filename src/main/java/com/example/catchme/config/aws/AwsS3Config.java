@@ -3,23 +3,34 @@ package com.example.catchme.config.aws;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+import java.time.Duration;
 
 @Configuration
+@Profile("!storage-local & !storage-memory")
 public class AwsS3Config {
 
-    @Bean
-    public S3Client s3Client(
-            @Value("${aws.region}") String region
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient(
+            @Value("${aws.region}") String region,
+            @Value("${aws.s3.max-connections:64}") int maxConnections,
+            @Value("${aws.s3.connection-acquisition-timeout:10s}") Duration connectionAcquisitionTimeout
     ) {
-        return S3Client.builder()
+        return S3AsyncClient.builder()
                 .region(Region.of(region))
                 // 환경변수/프로파일/role 등 “기본 자격증명 체인” 사용
                 .credentialsProvider(DefaultCredentialsProvider.create())
+                // 업로드 스레드를 점유하지 않는 non-blocking 커넥션 풀 (모든 업로드가 공유)
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(maxConnections)
+                        .connectionAcquisitionTimeout(connectionAcquisitionTimeout))
                 .build();
     }
 }
 //✅ 이게 있으면 로컬에서는 환경변수를 읽고,
-//배포(EB)에서는 IAM Role을 자동으로 읽습니다.
\ No newline at end of file
+//배포(EB)에서는 IAM Role을 자동으로 읽습니다.
@@ -0,0 +1,52 @@
+package com.example.catchme.config.detection;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * application.yaml(fall-detection.*) 에서 주입받는 실시간 낙상 감지 설정
+ *
+ * 가속도 임계값은 g 단위, 구간 길이는 샘플 수 기준 (기본값은 약 50Hz 기준)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "fall-detection")
+public class FallDetectionProperties {
+
+    private boolean enabled = true;
+
+    /** 자유낙하로 보는 가속도 크기 상한 */
+    private double freeFallThreshold = 0.4;
+
+    /** 자유낙하로 인정하는 최소 연속 샘플 수 */
+    private int freeFallMinSamples = 3;
+
+    /** 충격으로 보는 가속도 크기 하한 */
+    private double impactThreshold = 2.5;
+
+    /** 자유낙하 이후 충격을 기다리는 최대 샘플 수 */
+    private int impactWindowSamples = 25;
+
+    /** 충격 이후 움직임 / 하중을 관찰하는 샘플 수 (슬라이딩 윈도우 크기) */
+    private int inactivitySamples = 100;
+
+    /** 관찰 구간 가속도 크기 분산 상한 (이하이면 움직임 없음) */
+    private double inactivityVariance = 0.05;
+
+    /** 관찰 구간 평균 압력 합(p1~p4) 상한 (이하이면 발에 체중이 실리지 않음, 기기별 보정 필요) */
+    private int unloadedPressure = 100;
+
+    /** 같은 사용자 재알림 최소 간격 */
+    private Duration alertCooldown = Duration.ofSeconds(30);
+
+    /** 샘플이 들어오지 않는 사용자 상태를 제거하기까지의 시간 */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /** 유휴 사용자 상태 정리 주기 */
+    private Duration sweepInterval = Duration.ofMinutes(1);
+}
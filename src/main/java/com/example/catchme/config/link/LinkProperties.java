@@ -0,0 +1,68 @@
+package com.example.catchme.config.link;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * application.yaml(link.*) 에서 주입받는 보호자 연동(QR) 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "link")
+public class LinkProperties {
+
+    /**
+     * QR 토큰 저장소 (memory / database)
+     * → 여러 노드로 운영할 때는 database (어느 노드에서 스캔해도 연동 가능)
+     */
+    private String tokenStore = "memory";
+
+    /** QR 토큰 유효 시간 */
+    private Duration tokenTtl = Duration.ofMinutes(5);
+
+    /** 사용자 1명이 동시에 가질 수 있는 QR 토큰 수 (초과 시 오래된 토큰부터 폐기) */
+    private int maxTokensPerUser = 3;
+
+    /** 만료 토큰 정리 주기 */
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    /** 보호자 실시간 알림(SSE) 설정 */
+    private final Alert alert = new Alert();
+
+    @Getter
+    @Setter
+    public static class Alert {
+
+        /** 연결 유지 시간 (만료 시 클라이언트가 재연결) */
+        private Duration connectionTimeout = Duration.ofMinutes(30);
+
+        /** 마지막 전송 후 이 시간 동안 보낼 것이 없으면 heartbeat 전송 (@Scheduled에서 직접 참조) */
+        private Duration heartbeatInterval = Duration.ofSeconds(25);
+
+        /** 보호자 1명당 동시 연결 수 */
+        private int maxConnectionsPerGuardian = 5;
+
+        /** 연결 1개당 전송 대기 알림 수 (초과 시 오래된 알림부터 버림) */
+        private int bufferCapacity = 32;
+
+        /** 알림 전송 스레드 수 (연결 수와 무관, 대기 중인 연결은 스레드를 점유하지 않음) */
+        private int writerThreads = 4;
+
+        /** 전송 대기 작업 수 (연결당 최대 1개, 초과 시 다음 알림 / heartbeat 때 다시 예약) */
+        private int writerQueueCapacity = 10_000;
+
+        /** 전송 1건 최대 시간 (초과한 연결은 닫음, 점검도 이 주기로 수행 @Scheduled에서 직접 참조) */
+        private Duration writeTimeout = Duration.ofSeconds(10);
+
+        /** 이벤트의 보호자 조회(DB) 스레드 수 (전송 스레드와 분리) */
+        private int routerThreads = 2;
+
+        /** 보호자 조회 대기 이벤트 수 (초과 시 알림을 버리고 link.alert.dropped 증가) */
+        private int routerQueueCapacity = 1000;
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.catchme.config.rawData;
+
+import com.example.catchme.model.RawDataFormat;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * application.yaml(raw-data.*) 에서 주입받는 센서 원시 데이터 업로드 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "raw-data")
+public class RawDataProperties {
+
+    private final Batch batch = new Batch();
+    private final Stream stream = new Stream();
+    private final Storage storage = new Storage();
+    private final Ingestion ingestion = new Ingestion();
+    private final Window window = new Window();
+    private final Wal wal = new Wal();
+    private final Analysis analysis = new Analysis();
+    private final Query query = new Query();
+    private final Rollup rollup = new Rollup();
+
+    @Getter
+    @Setter
+    public static class Batch {
+
+        /** 배치 1회 요청에 허용하는 최대 샘플 수 */
+        private int maxSamples = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Stream {
+
+        /** 스트리밍 업로드 시 S3 multipart 파트 크기 (최소 5MB) */
+        private DataSize partSize = DataSize.ofMegabytes(8);
+
+        /** 업로드 1건당 동시에 전송하는 파트 수 (메모리 사용량 ≈ (값 + 1) × partSize) */
+        private int maxConcurrentParts = 4;
+    }
+
+    @Getter
+    @Setter
+    public static class Storage {
+
+        /** 새로 업로드하는 파일의 저장 형식 (csv / columnar) */
+        private RawDataFormat format = RawDataFormat.CSV;
+
+        /** COLUMNAR 형식의 블록당 샘플 수 */
+        private int blockSamples = 4096;
+
+        /** COLUMNAR 형식의 블록 Deflate 압축 여부 */
+        private boolean compression = true;
+
+        /** 파일 1개에 담는 샘플의 최대 시간 범위 (기간 조회는 구간 끝 + 이 값까지만 스캔) */
+        private Duration maxFileSpan = Duration.ofHours(24);
+
+        /** 오프셋 없는 timestamp를 해석할 시간대 */
+        private String timestampZone = "Asia/Seoul";
+
+        /** storage-local 프로파일에서 파일을 저장할 루트 디렉터리 */
+        private String localDirectory = "data/raw-data-storage";
+    }
+
+    @Getter
+    @Setter
+    public static class Ingestion {
+
+        /** 비동기 저장 워커 수 */
+        private int workers = 4;
+
+        /** 저장 대기 큐 크기 (초과 시 503) */
+        private int queueCapacity = 1000;
+
+        /** 배치 1건당 최대 저장 시도 횟수 */
+        private int maxAttempts = 3;
+
+        /** 재시도 간격 (시도 횟수만큼 배수 증가) */
+        private Duration retryBackoff = Duration.ofMillis(500);
+
+        /** 종료 시 남은 배치를 저장하며 기다리는 최대 시간 */
+        private Duration shutdownTimeout = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Window {
+
+        /** 사용자별 윈도우 유지 시간 (경과 시 파일 1개로 봉인) */
+        private Duration duration = Duration.ofSeconds(60);
+
+        /** 윈도우 최대 샘플 수 (도달 시 즉시 봉인) */
+        private int maxSamples = 3000;
+
+        /** 만료 윈도우 점검 주기 (@Scheduled에서 직접 참조) */
+        private Duration sweepInterval = Duration.ofSeconds(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Wal {
+
+        /** 비동기 / 윈도우 업로드의 로컬 write-ahead log 사용 여부 */
+        private boolean enabled = false;
+
+        /** 세그먼트 파일 디렉터리 */
+        private String directory = "data/raw-data-wal";
+
+        /** 세그먼트 1개 크기 (memory-mapped) */
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+        /** group commit fsync 주기 (요청은 최대 이 시간만큼 대기) */
+        private Duration groupCommitInterval = Duration.ofMillis(2);
+
+        /** fsync 완료 최대 대기 시간 (초과 시 요청을 503으로 실패) */
+        private Duration durableTimeout = Duration.ofSeconds(5);
+    }
+
+    @Getter
+    @Setter
+    public static class Analysis {
+
+        /** 미분석 파일 배치 분석 사용 여부 */
+        private boolean enabled = false;
+
+        /** 분석 주기 (@Scheduled에서 직접 참조) */
+        private Duration interval = Duration.ofSeconds(30);
+
+        /** 1회에 점유(claim)하는 파일 수 */
+        private int batchSize = 100;
+
+        /** 동시에 내려받아 분석하는 파일 수 */
+        private int parallelism = 4;
+
+        /** 점유 유지 시간 (노드가 죽으면 이 시간 후 다른 노드가 가져감) */
+        private Duration leaseDuration = Duration.ofMinutes(5);
+
+        /** 파일 1개당 최대 분석 시도 횟수 */
+        private int maxAttempts = 3;
+
+        /** 충격으로 보는 가속도 크기 (g) */
+        private double impactThreshold = 2.5;
+
+        /** 연속 샘플 간 가속도 크기 변화가 이 값 이하면 무동작 (g) */
+        private double stillnessTolerance = 0.02;
+
+        /** 무동작 구간으로 기록하는 최소 길이 */
+        private Duration minInactivity = Duration.ofSeconds(2);
+    }
+
+    @Getter
+    @Setter
+    public static class Query {
+
+        /** 기간 조회 1페이지 최대 파일 수 */
+        private int maxPageSize = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Rollup {
+
+        /** 파일 분석 시 1초 / 1분 / 1시간 rollup 집계 여부 */
+        private boolean enabled = true;
+
+        /** 조회 1회 최대 버킷 수 (초과하면 더 큰 resolution 필요) */
+        private int maxPoints = 10_000;
+
+        /** 1초 버킷 보관 기간 (이전 구간 조회는 1분 버킷 사용) */
+        private Duration secondTierRetention = Duration.ofDays(7);
+
+        /** 1분 버킷 보관 기간 (이전 구간 조회는 1시간 버킷 사용) */
+        private Duration minuteTierRetention = Duration.ofDays(180);
+    }
+}
@@ -1,12 +1,16 @@
 package com.example.catchme.controller;
 
+import com.example.catchme.config.auth.LoginProtectionProperties;
 import com.example.catchme.dto.LoginRequest;
 import com.example.catchme.dto.LoginResponse;
+import com.example.catchme.dto.RefreshTokenRequest;
 import com.example.catchme.dto.SignupRequest;
 import com.example.catchme.service.interfaces.auth.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -18,6 +22,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginProtectionProperties loginProtectionProperties;
 
     /**
      * 회원가입 API
@@ -33,10 +38,33 @@ public class AuthController {
 
     @PostMapping("/login")
     public ResponseEntity<LoginResponse> login(
-            @RequestBody LoginRequest request
+            @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest
     ) {
-        return ResponseEntity.ok(authService.login(request));
+        return ResponseEntity.ok(authService.login(request, resolveClientIp(httpRequest)));
     }
 
+    /**
+     * Access Token 재발급 API (Refresh Token rotation)
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponse> refresh(
+            @RequestBody RefreshTokenRequest request
+    ) {
+        return ResponseEntity.ok(authService.refresh(request));
+    }
 
+    /**
+     * 시도 횟수 제한에 사용할 클라이언트 IP
+     * → X-Forwarded-For는 신뢰하는 프록시 뒤에 있을 때만 사용 (위조 가능)
+     */
+    private String resolveClientIp(HttpServletRequest request) {
+        if (loginProtectionProperties.isTrustForwardedFor()) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (StringUtils.hasText(forwardedFor)) {
+                return forwardedFor.split(",")[0].trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
 }
@@ -1,13 +1,19 @@
 package com.example.catchme.controller;
 
+import com.example.catchme.dto.LinkedGuardianResponse;
+import com.example.catchme.dto.LinkedPatientPageResponse;
 import com.example.catchme.dto.QrLinkConnectRequest;
 import com.example.catchme.dto.QrLinkTokenResponse;
 import com.example.catchme.model.User;
 import com.example.catchme.service.interfaces.user.LinkService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/link")
@@ -36,4 +42,36 @@ public class LinkController {
         linkService.connectByQr(user.getId(), linkToken.getLinkToken());
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * GUARDIAN → 연동된 환자 목록 + 환자별 최근 업로드 파일 조회
+     */
+    @GetMapping("/patients")
+    public LinkedPatientPageResponse getLinkedPatients(
+            @AuthenticationPrincipal User user,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return linkService.getLinkedPatients(user.getId(), page, size);
+    }
+
+    /**
+     * USER → 연동된 보호자 목록
+     */
+    @GetMapping("/guardians")
+    public List<LinkedGuardianResponse> getLinkedGuardians(
+            @AuthenticationPrincipal User user
+    ) {
+        return linkService.getLinkedGuardians(user.getId());
+    }
+
+    /**
+     * GUARDIAN → 연동된 환자 알림 구독 (Server-Sent Events)
+     */
+    @GetMapping(value = "/alerts", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeAlerts(
+            @AuthenticationPrincipal User user
+    ) {
+        return linkService.subscribeAlerts(user.getId());
+    }
 }
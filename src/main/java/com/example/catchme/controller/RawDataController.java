@@ -1,17 +1,29 @@
 package com.example.catchme.controller;
 
+import com.example.catchme.dto.RawDataAcceptResponse;
+import com.example.catchme.dto.RawDataBatchUploadResponse;
+import com.example.catchme.dto.RawDataFilePageResponse;
+import com.example.catchme.dto.RawDataRollupResponse;
 import com.example.catchme.dto.RawDataUploadResponse;
+import com.example.catchme.dto.RawSensorDataBatchRequest;
 import com.example.catchme.dto.RawSensorDataRequest;
 import com.example.catchme.model.User;
 import com.example.catchme.service.interfaces.rawData.RawDataService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.time.Duration;
+
 @RestController
 @RequestMapping("/api/raw-data")
 @RequiredArgsConstructor
@@ -19,6 +31,37 @@ public class RawDataController {
 
     private final RawDataService rawDataService;
 
+    /**
+     * 기간 조회 (from / to: epoch millis 또는 ISO-8601, cursor: 이전 응답의 nextCursor)
+     * → userId 지정 시 연동된 환자의 데이터 조회 (보호자)
+     */
+    @GetMapping
+    public ResponseEntity<RawDataFilePageResponse> findFiles(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) Long userId,
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        return ResponseEntity.ok(rawDataService.findFilesInRange(user, userId, from, to, cursor, size));
+    }
+
+    /**
+     * 장기간 rollup 조회 (resolution 예: 1s / 1m / 1h, 생략 시 버킷 수 제한 내 가장 촘촘한 단위)
+     * → 분석이 끝난 파일까지 반영됨 (raw-data.analysis.interval 만큼 지연)
+     */
+    @GetMapping("/rollups")
+    public ResponseEntity<RawDataRollupResponse> findRollups(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) Long userId,
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) Duration resolution
+    ) {
+        return ResponseEntity.ok(rawDataService.findRollups(user, userId, from, to, resolution));
+    }
+
     @PostMapping
     public ResponseEntity<RawDataUploadResponse> upload(
             @AuthenticationPrincipal User user,
@@ -26,4 +69,50 @@ public class RawDataController {
     ) {
         return ResponseEntity.ok(rawDataService.uploadRawDataAsCsv(user,request));
     }
+
+    /**
+     * 여러 샘플을 한 번에 업로드 (S3 object 1개 + 메타데이터 1행)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<RawDataBatchUploadResponse> uploadBatch(
+            @AuthenticationPrincipal User user,
+            @RequestBody RawSensorDataBatchRequest request
+    ) {
+        return ResponseEntity.ok(rawDataService.uploadRawDataBatchAsCsv(user, request));
+    }
+
+    /**
+     * 배치 비동기 업로드 (접수 즉시 202, 저장은 백그라운드에서 수행)
+     */
+    @PostMapping("/batch/async")
+    public ResponseEntity<RawDataBatchUploadResponse> acceptBatch(
+            @AuthenticationPrincipal User user,
+            @RequestBody RawSensorDataBatchRequest request
+    ) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(rawDataService.acceptRawDataBatch(user, request));
+    }
+
+    /**
+     * 윈도우 버퍼 업로드 (사용자별로 모아 윈도우 1개당 S3 object 1개로 저장)
+     */
+    @PostMapping("/buffered")
+    public ResponseEntity<RawDataAcceptResponse> appendToWindow(
+            @AuthenticationPrincipal User user,
+            @RequestBody RawSensorDataBatchRequest request
+    ) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(rawDataService.appendToWindow(user, request));
+    }
+
+    /**
+     * NDJSON 스트리밍 업로드 (chunked 요청 본문을 샘플 단위로 읽어 바로 S3에 기록)
+     */
+    @PostMapping(value = "/stream", consumes = "application/x-ndjson")
+    public ResponseEntity<RawDataBatchUploadResponse> uploadStream(
+            @AuthenticationPrincipal User user,
+            HttpServletRequest request
+    ) throws IOException {
+        return ResponseEntity.ok(rawDataService.uploadRawDataStreamAsCsv(user, request.getInputStream()));
+    }
 }
\ No newline at end of file
@@ -1,10 +1,14 @@
 package com.example.catchme.controller;
 
+import com.example.catchme.dto.BulkSignupRequest;
+import com.example.catchme.dto.BulkSignupResponse;
 import com.example.catchme.dto.NameUpdateRequest;
 import com.example.catchme.dto.PasswordUpdateRequest;
 import com.example.catchme.model.User;
+import com.example.catchme.service.interfaces.auth.AuthService;
 import com.example.catchme.service.interfaces.user.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -15,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final AuthService authService;
 
     @PatchMapping("/name")
     public ResponseEntity<Void> updateName(
@@ -38,6 +43,21 @@ public class UserController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 보호자(기관 담당자) → 사용자 일괄 등록
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkSignupResponse> bulkSignup(
+            Authentication authentication,
+            @RequestBody BulkSignupRequest request
+    ) {
+        User user = (User) authentication.getPrincipal();
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(authService.bulkSignup(user, request));
+    }
+
     @DeleteMapping("/me")
     public ResponseEntity<Void> deleteMe(
             Authentication authentication
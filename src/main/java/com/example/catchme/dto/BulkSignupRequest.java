@@ -0,0 +1,10 @@
+package com.example.catchme.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BulkSignupRequest {
+    private List<SignupRequest> users;
+}
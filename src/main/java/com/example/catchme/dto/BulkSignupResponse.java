@@ -0,0 +1,17 @@
+package com.example.catchme.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BulkSignupResponse {
+    /** 새로 등록된 사용자 수 */
+    private int createdCount;
+    /** 이미 가입되어 있거나 요청 안에서 중복되어 건너뛴 이메일 */
+    private List<String> skippedEmails;
+    /** 비밀번호 해시 실행기 포화로 이번에 등록하지 못한 이메일 (다시 요청하면 이어서 등록) */
+    private List<String> unprocessedEmails;
+}
@@ -0,0 +1,26 @@
+package com.example.catchme.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 보호자에게 SSE로 전달하는 환자 알림
+ */
+@Getter
+@AllArgsConstructor
+public class GuardianAlertResponse {
+
+    /** 알림 종류 (예: FALL_DETECTED) */
+    private String type;
+
+    private Long patientId;
+
+    /** 감지 기준 샘플의 timestamp (클라이언트 값 그대로) */
+    private String sampleTimestamp;
+
+    /** 충격 구간 최대 가속도 크기 (g) */
+    private double impactMagnitude;
+
+    /** 서버 감지 시각 (epoch millis) */
+    private long detectedAtMillis;
+}
@@ -0,0 +1,15 @@
+package com.example.catchme.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class LinkedGuardianResponse {
+    private Long guardianId;
+    private String name;
+    private String email;
+    private LocalDateTime linkedAt;
+}
@@ -0,0 +1,18 @@
+package com.example.catchme.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 보호자의 환자 목록 페이지 (전체 개수 없이 다음 페이지 존재 여부만 제공)
+ */
+@Getter
+@AllArgsConstructor
+public class LinkedPatientPageResponse {
+    private List<LinkedPatientResponse> patients;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
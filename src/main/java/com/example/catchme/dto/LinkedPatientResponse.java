@@ -0,0 +1,23 @@
+package com.example.catchme.dto;
+
+import com.example.catchme.model.RawDataFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보호자에게 연동된 환자 + 가장 최근 센서 데이터 파일 메타데이터
+ * (업로드 이력이 없으면 latestFile* 필드는 null)
+ */
+@Getter
+@AllArgsConstructor
+public class LinkedPatientResponse {
+    private Long patientId;
+    private String name;
+    private String email;
+    private Long latestFileId;
+    private String latestFileObjectKey;
+    private RawDataFormat latestFileFormat;
+    private LocalDateTime latestFileCreatedAt;
+}
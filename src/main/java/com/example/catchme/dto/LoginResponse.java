@@ -8,5 +8,5 @@ import lombok.Getter;
 public class LoginResponse {
     private String accessToken;
     private String role;
+    private String refreshToken;
 }
-
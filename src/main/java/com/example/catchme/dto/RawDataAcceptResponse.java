@@ -0,0 +1,10 @@
+package com.example.catchme.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RawDataAcceptResponse {
+    private int acceptedSamples;
+}
@@ -0,0 +1,11 @@
+package com.example.catchme.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RawDataBatchUploadResponse {
+    private String objectKey;
+    private int sampleCount;
+}
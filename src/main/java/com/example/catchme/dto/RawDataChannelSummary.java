@@ -0,0 +1,15 @@
+package com.example.catchme.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * rollup 버킷 안의 채널 1개 요약
+ */
+@Getter
+@AllArgsConstructor
+public class RawDataChannelSummary {
+    private double min;
+    private double max;
+    private double mean;
+}
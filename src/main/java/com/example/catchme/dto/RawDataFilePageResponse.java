@@ -0,0 +1,20 @@
+package com.example.catchme.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 기간 조회 결과 페이지 (keyset 페이지네이션, 다음 요청에 nextCursor를 그대로 전달)
+ */
+@Getter
+@AllArgsConstructor
+public class RawDataFilePageResponse {
+    private List<RawDataFileResponse> files;
+    private int size;
+    private boolean hasNext;
+
+    /** 다음 페이지 커서 (마지막 페이지면 null) */
+    private String nextCursor;
+}
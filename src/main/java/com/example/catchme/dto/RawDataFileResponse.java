@@ -0,0 +1,26 @@
+package com.example.catchme.dto;
+
+import com.example.catchme.model.RawDataFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 센서 데이터 파일 메타데이터 (파일 내용은 objectKey로 저장소에서 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class RawDataFileResponse {
+    private Long fileId;
+    private String objectKey;
+    private RawDataFormat format;
+    private Integer sampleCount;
+
+    /** 첫 / 마지막 샘플 timestamp (epoch millis) */
+    private Long firstSampleAt;
+    private Long lastSampleAt;
+
+    private LocalDateTime createdAt;
+    private boolean analyzed;
+}
@@ -0,0 +1,24 @@
+package com.example.catchme.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * rollup 버킷 1개 (bucketStart부터 tier 단위 구간)
+ */
+@Getter
+@AllArgsConstructor
+public class RawDataRollupPointResponse {
+
+    /** 버킷 시작 시각 (epoch millis) */
+    private long bucketStart;
+    private long sampleCount;
+
+    private RawDataChannelSummary pressure1;
+    private RawDataChannelSummary pressure2;
+    private RawDataChannelSummary pressure3;
+    private RawDataChannelSummary pressure4;
+    private RawDataChannelSummary accX;
+    private RawDataChannelSummary accY;
+    private RawDataChannelSummary accZ;
+}
@@ -0,0 +1,25 @@
+package com.example.catchme.dto;
+
+import com.example.catchme.model.RollupTier;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 기간 rollup 조회 결과 (요청 resolution을 만족하는 가장 큰 tier로 응답)
+ */
+@Getter
+@AllArgsConstructor
+public class RawDataRollupResponse {
+    private Long userId;
+    private RollupTier tier;
+    private long bucketMillis;
+
+    /** 조회 구간 [from, to) (epoch millis) */
+    private long from;
+    private long to;
+
+    /** 샘플이 있는 버킷만 포함 (bucketStart 순) */
+    private List<RawDataRollupPointResponse> points;
+}
@@ -0,0 +1,14 @@
+package com.example.catchme.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class RawSensorDataBatchRequest {
+
+    /** 시간순으로 정렬된 센서 샘플 목록 */
+    private List<RawSensorDataRequest> samples;
+}
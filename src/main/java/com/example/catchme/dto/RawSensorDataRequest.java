@@ -1,10 +1,12 @@
 package com.example.catchme.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
+@AllArgsConstructor
 public class RawSensorDataRequest {
 
     private String timestamp;
@@ -1,6 +1,7 @@
 package com.example.catchme.exception;
 
 import com.example.catchme.exception.exceptions.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -33,6 +34,42 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.UNAUTHORIZED, e.getMessage());
     }
 
+    /**
+     * 로그인 시도 횟수 초과
+     * → 429 Too Many Requests + Retry-After
+     */
+    @ExceptionHandler(LoginRateLimitedException.class)
+    public ResponseEntity<Map<String, Object>> handleLoginRateLimited(
+            LoginRateLimitedException e
+    ) {
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(buildErrorResponse(HttpStatus.TOO_MANY_REQUESTS, e.getMessage()).getBody());
+    }
+
+    /**
+     * 역할상 허용되지 않은 요청 (예: 보호자 전용 기능)
+     * → 403 Forbidden
+     */
+    @ExceptionHandler(PermissionDeniedException.class)
+    public ResponseEntity<Map<String, Object>> handlePermissionDenied(
+            PermissionDeniedException e
+    ) {
+        return buildErrorResponse(HttpStatus.FORBIDDEN, e.getMessage());
+    }
+
+    /**
+     * Refresh Token 검증 실패 (만료 / 폐기 / 재사용)
+     * → 401 Unauthorized
+     */
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidRefreshToken(
+            InvalidRefreshTokenException e
+    ) {
+        return buildErrorResponse(HttpStatus.UNAUTHORIZED, e.getMessage());
+    }
+
     /**
      * 사용자 리소스 없음
      * → 404 Not Found
@@ -72,6 +109,41 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR,e.getMessage());
     }
 
+    @ExceptionHandler(S3DownloadFailException.class)
+    public ResponseEntity<Map<String, Object>> handleS3DownloadFail(
+            S3DownloadFailException e
+    ){
+        return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR,e.getMessage());
+    }
+
+    /**
+     * 센서 데이터 저장 큐 포화 (백프레셔)
+     * → 503 Service Unavailable + Retry-After
+     */
+    @ExceptionHandler(RawDataIngestionBusyException.class)
+    public ResponseEntity<Map<String, Object>> handleIngestionBusy(
+            RawDataIngestionBusyException e
+    ) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage()).getBody());
+    }
+
+    /**
+     * 비밀번호 해시 실행기 포화 (로그인 / 회원가입 폭주)
+     * → 503 Service Unavailable + Retry-After
+     */
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<Map<String, Object>> handlePasswordHashingBusy(
+            PasswordHashingBusyException e
+    ) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage()).getBody());
+    }
+
     /**
      * 비즈니스 상태 오류
      * → 409 Conflict
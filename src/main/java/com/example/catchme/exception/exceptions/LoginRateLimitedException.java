@@ -0,0 +1,15 @@
+package com.example.catchme.exception.exceptions;
+
+import lombok.Getter;
+
+@Getter
+public class LoginRateLimitedException extends RuntimeException {
+
+    /** 다시 시도할 수 있을 때까지 남은 시간(초) */
+    private final long retryAfterSeconds;
+
+    public LoginRateLimitedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
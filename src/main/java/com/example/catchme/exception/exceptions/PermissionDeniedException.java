@@ -0,0 +1,8 @@
+package com.example.catchme.exception.exceptions;
+
+public class PermissionDeniedException extends RuntimeException {
+
+    public PermissionDeniedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.catchme.exception.exceptions;
+
+public class RawDataIngestionBusyException extends RuntimeException {
+
+    public RawDataIngestionBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.catchme.exception.exceptions;
+
+public class S3DownloadFailException extends RuntimeException {
+
+    public S3DownloadFailException(String message) {
+        super(message);
+    }
+}
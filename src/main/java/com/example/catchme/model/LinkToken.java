@@ -0,0 +1,50 @@
+package com.example.catchme.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보호자 연동용 QR 토큰 (link.token-store=database)
+ */
+@Getter
+@Entity
+@Table(
+        name = "link_tokens",
+        indexes = {
+                @Index(name = "idx_link_tokens_user", columnList = "user_id"),
+                @Index(name = "idx_link_tokens_expires_at", columnList = "expires_at")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LinkToken {
+
+    /** QR에 담기는 토큰 값 */
+    @Id
+    @Column(length = 36)
+    private String token;
+
+    /** 토큰을 생성한 환자 id (FK 없이 보관 → 탈퇴 시 만료로 정리) */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LinkToken(String token, Long userId, LocalDateTime expiresAt) {
+        this.token = token;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static LinkToken create(String token, Long userId, LocalDateTime expiresAt) {
+        return new LinkToken(token, userId, expiresAt);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.catchme.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * RawDataFile 1개에 대한 배치 분석 결과 (파일당 1행)
+ *
+ * ✔ 충격: 가속도 크기가 임계값을 넘은 구간 수 / 최대 가속도
+ * ✔ 압력 분포: 센서(p1~p4)별 평균 압력
+ * ✔ 무동작: 가속도 크기 변화가 허용 범위 이내로 유지된 구간 수 / 최장 / 합계 시간
+ */
+@Getter
+@Entity
+@Table(
+        name = "raw_data_analyses",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_raw_data_analyses_file",
+                columnNames = "raw_data_file_id"
+        )
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RawDataAnalysis {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 분석 대상 파일 */
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "raw_data_file_id", nullable = false)
+    private RawDataFile rawDataFile;
+
+    /** 샘플 수 */
+    @Column(nullable = false)
+    private long sampleCount;
+
+    /** 첫 / 마지막 샘플 시각 (epoch millis, 샘플이 없으면 null) */
+    private Long firstSampleAtMillis;
+
+    private Long lastSampleAtMillis;
+
+    /** 충격 구간 수 */
+    @Column(nullable = false)
+    private int impactCount;
+
+    /** 최대 가속도 크기 (g) */
+    @Column(nullable = false)
+    private double peakMagnitude;
+
+    /** 센서별 평균 압력 */
+    @Column(nullable = false)
+    private double meanPressure1;
+
+    @Column(nullable = false)
+    private double meanPressure2;
+
+    @Column(nullable = false)
+    private double meanPressure3;
+
+    @Column(nullable = false)
+    private double meanPressure4;
+
+    /** 무동작 구간 수 / 최장 구간 / 합계 (millis) */
+    @Column(nullable = false)
+    private int inactivitySpanCount;
+
+    @Column(nullable = false)
+    private long longestInactivityMillis;
+
+    @Column(nullable = false)
+    private long totalInactivityMillis;
+
+    /** 분석 완료 시각 */
+    @Column(nullable = false)
+    private LocalDateTime analyzedAt;
+
+    private RawDataAnalysis(RawDataFile rawDataFile, long sampleCount, Long firstSampleAtMillis, Long lastSampleAtMillis) {
+        this.rawDataFile = rawDataFile;
+        this.sampleCount = sampleCount;
+        this.firstSampleAtMillis = firstSampleAtMillis;
+        this.lastSampleAtMillis = lastSampleAtMillis;
+        this.analyzedAt = LocalDateTime.now();
+    }
+
+    public static RawDataAnalysis create(
+            RawDataFile rawDataFile,
+            long sampleCount,
+            Long firstSampleAtMillis,
+            Long lastSampleAtMillis
+    ) {
+        return new RawDataAnalysis(rawDataFile, sampleCount, firstSampleAtMillis, lastSampleAtMillis);
+    }
+
+    public void recordImpacts(int impactCount, double peakMagnitude) {
+        this.impactCount = impactCount;
+        this.peakMagnitude = peakMagnitude;
+    }
+
+    public void recordMeanPressures(double p1, double p2, double p3, double p4) {
+        this.meanPressure1 = p1;
+        this.meanPressure2 = p2;
+        this.meanPressure3 = p3;
+        this.meanPressure4 = p4;
+    }
+
+    public void recordInactivity(int spanCount, long longestMillis, long totalMillis) {
+        this.inactivitySpanCount = spanCount;
+        this.longestInactivityMillis = longestMillis;
+        this.totalInactivityMillis = totalMillis;
+    }
+}
@@ -9,7 +9,15 @@ import java.time.LocalDateTime;
 
 @Getter
 @Entity
-@Table(name = "raw_data_files")
+@Table(
+        name = "raw_data_files",
+        indexes = {
+                @Index(name = "idx_raw_data_files_user_created", columnList = "user_id, created_at"),
+                @Index(name = "idx_raw_data_files_user_id", columnList = "user_id, id"),
+                @Index(name = "idx_raw_data_files_user_last_sample", columnList = "user_id, last_sample_at, id"),
+                @Index(name = "idx_raw_data_files_analyzed", columnList = "analyzed, id")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RawDataFile {
 
@@ -26,23 +34,76 @@ public class RawDataFile {
     @Column(nullable = false, length = 500)
     private String s3ObjectKey; //objectKey만 저장, 파일은 S3책임
 
+    /** 저장 형식 (CSV / COLUMNAR) */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RawDataFormat format;
+
+    /** 샘플 수 */
+    @Column(name = "sample_count")
+    private Integer sampleCount;
+
+    /**
+     * 첫 / 마지막 샘플 timestamp (epoch millis)
+     * → 기간 조회 시 파일을 열지 않고 범위 밖 파일을 제외
+     * (이 컬럼 추가 전 파일은 null, 배치 분석 시 채워짐)
+     */
+    @Column(name = "first_sample_at")
+    private Long firstSampleAt;
+
+    @Column(name = "last_sample_at")
+    private Long lastSampleAt;
+
     /** 업로드 시각 */
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
-    /** 분석 여부 (확장 대비) */
+    /** 분석 여부 (RawDataAnalyzer가 결과 저장 시 true) */
     @Column(nullable = false)
     private boolean analyzed;
 
-    private RawDataFile(User user, String s3ObjectKey) {
+    /** 분석 작업을 점유한 claim 식별자 (null이면 미점유) */
+    @Column(name = "analysis_claim", length = 36)
+    private String analysisClaim;
+
+    /** 점유 만료 시각 (지나면 다른 노드가 다시 가져갈 수 있음) */
+    @Column(name = "analysis_lease_until")
+    private LocalDateTime analysisLeaseUntil;
+
+    /** 분석 시도 횟수 (최대 횟수를 넘기면 더 이상 가져가지 않음) */
+    @Column(name = "analysis_attempts", nullable = false)
+    private int analysisAttempts;
+
+    private RawDataFile(User user, String s3ObjectKey, RawDataFormat format) {
         this.user = user;
         this.s3ObjectKey = s3ObjectKey;
+        this.format = format;
         this.createdAt = LocalDateTime.now();
         this.analyzed = false;
+        this.analysisAttempts = 0;
     }
 
     public static RawDataFile create(User user, String s3ObjectKey) {
-        return new RawDataFile(user, s3ObjectKey);
+        return new RawDataFile(user, s3ObjectKey, RawDataFormat.CSV);
+    }
+
+    public static RawDataFile create(User user, String s3ObjectKey, RawDataFormat format) {
+        return new RawDataFile(user, s3ObjectKey, format);
+    }
+
+    public static RawDataFile create(
+            User user,
+            String s3ObjectKey,
+            RawDataFormat format,
+            int sampleCount,
+            Long firstSampleAt,
+            Long lastSampleAt
+    ) {
+        RawDataFile file = new RawDataFile(user, s3ObjectKey, format);
+        file.sampleCount = sampleCount;
+        file.firstSampleAt = firstSampleAt;
+        file.lastSampleAt = lastSampleAt;
+        return file;
     }
 
     public void markAnalyzed() {
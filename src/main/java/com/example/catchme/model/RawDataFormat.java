@@ -0,0 +1,21 @@
+package com.example.catchme.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * S3에 저장되는 센서 원시 데이터 파일 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RawDataFormat {
+
+    /** 헤더 timestamp,p1,p2,p3,p4,acc_x,acc_y,acc_z 텍스트 CSV */
+    CSV("text/csv", ".csv"),
+
+    /** 컬럼 단위 델타 인코딩 바이너리 (블록 압축 선택) */
+    COLUMNAR("application/octet-stream", ".cmrd");
+
+    private final String contentType;
+    private final String fileExtension;
+}
@@ -0,0 +1,159 @@
+package com.example.catchme.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 센서 데이터 rollup 버킷 (tier 단위 구간의 채널별 min / max / 합계)
+ *
+ * ✔ (user_id, tier, bucket_start) 유니크 → 기간 조회도 이 인덱스 범위 스캔
+ * ✔ (tier, bucket_start) 인덱스 → 보관 기간 정리가 사용자와 무관하게 오래된 버킷만 범위 스캔
+ * ✔ 파일 분석 시 파일 단위 버킷을 기존 버킷에 합산 (분석 완료 표시와 같은 트랜잭션 → 파일당 1번만 반영)
+ *
+ * 채널 순서: pressure1 ~ pressure4, accX, accY, accZ
+ */
+@Getter
+@Entity
+@Table(
+        name = "raw_data_rollups",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_raw_data_rollups_user_tier_bucket",
+                columnNames = {"user_id", "tier", "bucket_start"}
+        ),
+        indexes = @Index(name = "idx_raw_data_rollups_tier_bucket", columnList = "tier, bucket_start")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RawDataRollup {
+
+    public static final int CHANNELS = 7;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupTier tier;
+
+    /** 버킷 시작 시각 (epoch millis) */
+    @Column(name = "bucket_start", nullable = false)
+    private long bucketStart;
+
+    @Column(nullable = false)
+    private long sampleCount;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "min", column = @Column(name = "p1_min", nullable = false)),
+            @AttributeOverride(name = "max", column = @Column(name = "p1_max", nullable = false)),
+            @AttributeOverride(name = "sum", column = @Column(name = "p1_sum", nullable = false))
+    })
+    private RollupChannelStats pressure1;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "min", column = @Column(name = "p2_min", nullable = false)),
+            @AttributeOverride(name = "max", column = @Column(name = "p2_max", nullable = false)),
+            @AttributeOverride(name = "sum", column = @Column(name = "p2_sum", nullable = false))
+    })
+    private RollupChannelStats pressure2;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "min", column = @Column(name = "p3_min", nullable = false)),
+            @AttributeOverride(name = "max", column = @Column(name = "p3_max", nullable = false)),
+            @AttributeOverride(name = "sum", column = @Column(name = "p3_sum", nullable = false))
+    })
+    private RollupChannelStats pressure3;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "min", column = @Column(name = "p4_min", nullable = false)),
+            @AttributeOverride(name = "max", column = @Column(name = "p4_max", nullable = false)),
+            @AttributeOverride(name = "sum", column = @Column(name = "p4_sum", nullable = false))
+    })
+    private RollupChannelStats pressure4;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "min", column = @Column(name = "acc_x_min", nullable = false)),
+            @AttributeOverride(name = "max", column = @Column(name = "acc_x_max", nullable = false)),
+            @AttributeOverride(name = "sum", column = @Column(name = "acc_x_sum", nullable = false))
+    })
+    private RollupChannelStats accX;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "min", column = @Column(name = "acc_y_min", nullable = false)),
+            @AttributeOverride(name = "max", column = @Column(name = "acc_y_max", nullable = false)),
+            @AttributeOverride(name = "sum", column = @Column(name = "acc_y_sum", nullable = false))
+    })
+    private RollupChannelStats accY;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "min", column = @Column(name = "acc_z_min", nullable = false)),
+            @AttributeOverride(name = "max", column = @Column(name = "acc_z_max", nullable = false)),
+            @AttributeOverride(name = "sum", column = @Column(name = "acc_z_sum", nullable = false))
+    })
+    private RollupChannelStats accZ;
+
+    private RawDataRollup(User user, RollupTier tier, long bucketStart) {
+        this.user = user;
+        this.tier = tier;
+        this.bucketStart = bucketStart;
+    }
+
+    /**
+     * 새 버킷 생성 (min / max / sum 배열은 채널 순서대로 CHANNELS개)
+     */
+    public static RawDataRollup create(
+            User user,
+            RollupTier tier,
+            long bucketStart,
+            long sampleCount,
+            double[] min,
+            double[] max,
+            double[] sum
+    ) {
+        RawDataRollup rollup = new RawDataRollup(user, tier, bucketStart);
+        rollup.sampleCount = sampleCount;
+        rollup.pressure1 = new RollupChannelStats(min[0], max[0], sum[0]);
+        rollup.pressure2 = new RollupChannelStats(min[1], max[1], sum[1]);
+        rollup.pressure3 = new RollupChannelStats(min[2], max[2], sum[2]);
+        rollup.pressure4 = new RollupChannelStats(min[3], max[3], sum[3]);
+        rollup.accX = new RollupChannelStats(min[4], max[4], sum[4]);
+        rollup.accY = new RollupChannelStats(min[5], max[5], sum[5]);
+        rollup.accZ = new RollupChannelStats(min[6], max[6], sum[6]);
+        return rollup;
+    }
+
+    /**
+     * 같은 구간의 다른 파일 집계를 합산
+     */
+    public void merge(long otherSampleCount, double[] min, double[] max, double[] sum) {
+        this.sampleCount += otherSampleCount;
+        for (int channel = 0; channel < CHANNELS; channel++) {
+            channel(channel).merge(min[channel], max[channel], sum[channel]);
+        }
+    }
+
+    public RollupChannelStats channel(int channel) {
+        return switch (channel) {
+            case 0 -> pressure1;
+            case 1 -> pressure2;
+            case 2 -> pressure3;
+            case 3 -> pressure4;
+            case 4 -> accX;
+            case 5 -> accY;
+            case 6 -> accZ;
+            default -> throw new IllegalArgumentException("잘못된 채널 번호입니다: " + channel);
+        };
+    }
+}
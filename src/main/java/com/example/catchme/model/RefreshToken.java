@@ -0,0 +1,85 @@
+package com.example.catchme.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Refresh Token (원문은 저장하지 않고 SHA-256 해시만 저장)
+ *
+ * ✔ 재발급 시마다 새 토큰으로 교체 (rotation), 이전 토큰은 rotatedAt 기록
+ * ✔ 같은 로그인에서 이어진 토큰은 같은 familyId를 공유
+ * ✔ 이미 교체된 토큰이 다시 사용되면 탈취로 보고 family 전체 폐기
+ */
+@Getter
+@Entity
+@Table(
+        name = "refresh_tokens",
+        indexes = {
+                @Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+                @Index(name = "idx_refresh_tokens_user", columnList = "user_id")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 소유 사용자 */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    /** 토큰 원문의 SHA-256 (hex) */
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    /** 최초 로그인 단위 식별자 (rotation 체인) */
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    /** 만료 시각 */
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    /** 발급 시각 */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /** 새 토큰으로 교체된 시각 (null이면 현재 유효한 토큰) */
+    private LocalDateTime rotatedAt;
+
+    /** 폐기 여부 (재사용 감지 / 비밀번호 변경) */
+    @Column(nullable = false)
+    private boolean revoked;
+
+    private RefreshToken(User user, String tokenHash, String familyId, LocalDateTime expiresAt) {
+        this.user = user;
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.expiresAt = expiresAt;
+        this.createdAt = LocalDateTime.now();
+        this.revoked = false;
+    }
+
+    public static RefreshToken issue(User user, String tokenHash, String familyId, LocalDateTime expiresAt) {
+        return new RefreshToken(user, tokenHash, familyId, expiresAt);
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public boolean isRotated() {
+        return rotatedAt != null;
+    }
+
+    public void markRotated() {
+        this.rotatedAt = LocalDateTime.now();
+    }
+}
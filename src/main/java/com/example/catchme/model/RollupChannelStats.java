@@ -0,0 +1,37 @@
+package com.example.catchme.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * rollup 버킷 안의 채널 1개 통계 (평균 = sum / 버킷 sampleCount)
+ */
+@Getter
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RollupChannelStats {
+
+    @Column(nullable = false)
+    private double min;
+
+    @Column(nullable = false)
+    private double max;
+
+    @Column(nullable = false)
+    private double sum;
+
+    RollupChannelStats(double min, double max, double sum) {
+        this.min = min;
+        this.max = max;
+        this.sum = sum;
+    }
+
+    void merge(double otherMin, double otherMax, double otherSum) {
+        this.min = Math.min(this.min, otherMin);
+        this.max = Math.max(this.max, otherMax);
+        this.sum += otherSum;
+    }
+}
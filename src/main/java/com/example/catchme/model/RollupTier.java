@@ -0,0 +1,23 @@
+package com.example.catchme.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 센서 데이터 rollup 단위 (버킷 1개 = 해당 구간의 채널별 min / max / 합계)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RollupTier {
+
+    SECOND(1_000L),
+    MINUTE(60_000L),
+    HOUR(3_600_000L);
+
+    private final long bucketMillis;
+
+    /** timestamp가 속한 버킷 시작 시각 (epoch millis) */
+    public long bucketStart(long timestampMillis) {
+        return Math.floorDiv(timestampMillis, bucketMillis) * bucketMillis;
+    }
+}
@@ -10,21 +10,28 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
 @Getter
 @Entity
-@Table(name = "users")
+@Table(
+        name = "users",
+        uniqueConstraints = @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User implements UserDetails {
 
+    /** email 유니크 제약 이름 (중복 가입 예외 변환에 사용) */
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     /** 로그인 아이디 (email) */
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     /** 암호화된 비밀번호 */
@@ -40,10 +47,16 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private Role role;
 
-    /** 보호자 연동 (초기 단순화) */
-    @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "linked_user_id")
-    private User linkedUser;
+    /** 토큰 버전 (증가하면 이전에 발급된 JWT는 모두 무효) */
+    @Column(nullable = false)
+    private long tokenVersion;
+
+    /** 연속 로그인 실패 횟수 (성공 시 0) */
+    @Column(nullable = false)
+    private int failedLoginCount;
+
+    /** 계정 잠금 해제 시각 (null이면 잠기지 않음) */
+    private LocalDateTime lockedUntil;
 
     @Builder
     public User(String email, String password, String name, Role role) {
@@ -76,7 +89,7 @@ public class User implements UserDetails {
 
     @Override
     public boolean isAccountNonLocked() {
-        return true; // 잠금 기능 미구현
+        return lockedUntil == null || lockedUntil.isBefore(LocalDateTime.now());
     }
 
     @Override
@@ -101,5 +114,13 @@ public class User implements UserDetails {
         this.password = encode;
     }
 
-    public void setLinkedUser(User user) {this.linkedUser = user;}
+    public void recordLoginSuccess() {
+        this.failedLoginCount = 0;
+        this.lockedUntil = null;
+    }
+
+    /** 발급된 모든 토큰 무효화 */
+    public void revokeTokens() {
+        this.tokenVersion++;
+    }
 }
\ No newline at end of file
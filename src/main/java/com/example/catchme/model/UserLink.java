@@ -0,0 +1,56 @@
+package com.example.catchme.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보호자(GUARDIAN) ↔ 환자(USER) 연동 (N:M)
+ *
+ * ✔ (guardian_id, patient_id) 유니크 → 보호자 기준 조회는 이 인덱스로 처리
+ * ✔ patient_id 인덱스 → 환자 기준(내 보호자 목록) 조회
+ */
+@Getter
+@Entity
+@Table(
+        name = "user_links",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_user_links_guardian_patient",
+                columnNames = {"guardian_id", "patient_id"}
+        ),
+        indexes = @Index(name = "idx_user_links_patient", columnList = "patient_id")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserLink {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 보호자 */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "guardian_id", nullable = false)
+    private User guardian;
+
+    /** 환자 */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "patient_id", nullable = false)
+    private User patient;
+
+    /** 연동 시각 */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private UserLink(User guardian, User patient) {
+        this.guardian = guardian;
+        this.patient = patient;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static UserLink create(User guardian, User patient) {
+        return new UserLink(guardian, patient);
+    }
+}
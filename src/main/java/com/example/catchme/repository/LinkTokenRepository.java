@@ -0,0 +1,33 @@
+package com.example.catchme.repository;
+
+import com.example.catchme.model.LinkToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface LinkTokenRepository extends JpaRepository<LinkToken, String> {
+
+    @Query("select t.userId from LinkToken t where t.token = :token and t.expiresAt > :now")
+    Optional<Long> findUserIdByToken(@Param("token") String token, @Param("now") LocalDateTime now);
+
+    @Query("select t.token from LinkToken t where t.userId = :userId order by t.createdAt desc")
+    List<String> findTokensByUserIdNewestFirst(@Param("userId") Long userId);
+
+    /** 삭제된 행 수가 1인 요청만 토큰 사용에 성공 (노드 간 중복 사용 방지) */
+    @Modifying
+    @Query("delete from LinkToken t where t.token = :token and t.expiresAt > :now")
+    int deleteValid(@Param("token") String token, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from LinkToken t where t.token in :tokens")
+    int deleteAllByTokenIn(@Param("tokens") List<String> tokens);
+
+    @Modifying
+    @Query("delete from LinkToken t where t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,7 @@
+package com.example.catchme.repository;
+
+import com.example.catchme.model.RawDataAnalysis;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RawDataAnalysisRepository extends JpaRepository<RawDataAnalysis, Long> {
+}
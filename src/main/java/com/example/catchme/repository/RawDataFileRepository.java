@@ -1,7 +1,126 @@
 package com.example.catchme.repository;
 
+import com.example.catchme.dto.RawDataFileResponse;
 import com.example.catchme.model.RawDataFile;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface RawDataFileRepository extends JpaRepository<RawDataFile, Long> {
+
+    /**
+     * 분석 대기 파일 id (점유되지 않았거나 점유가 만료된 것, id 순)
+     * → idx_raw_data_files_analyzed (analyzed, id) 범위 스캔
+     */
+    @Query("""
+            select f.id from RawDataFile f
+            where f.analyzed = false
+              and f.analysisAttempts < :maxAttempts
+              and (f.analysisLeaseUntil is null or f.analysisLeaseUntil < :now)
+            order by f.id
+            """)
+    List<Long> findAnalysisCandidateIds(
+            @Param("maxAttempts") int maxAttempts,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    /**
+     * 후보 중 아직 점유 가능한 행만 claim으로 점유 (조건부 update → 여러 노드가 동시에 실행해도 1곳만 성공)
+     */
+    @Modifying
+    @Query("""
+            update RawDataFile f
+            set f.analysisClaim = :claim,
+                f.analysisLeaseUntil = :leaseUntil,
+                f.analysisAttempts = f.analysisAttempts + 1
+            where f.id in :ids
+              and f.analyzed = false
+              and (f.analysisLeaseUntil is null or f.analysisLeaseUntil < :now)
+            """)
+    int claimForAnalysis(
+            @Param("ids") List<Long> ids,
+            @Param("claim") String claim,
+            @Param("leaseUntil") LocalDateTime leaseUntil,
+            @Param("now") LocalDateTime now
+    );
+
+    @Query("select f from RawDataFile f where f.analysisClaim = :claim order by f.id")
+    List<RawDataFile> findAllByAnalysisClaim(@Param("claim") String claim);
+
+    /**
+     * claim을 아직 보유한 행만 분석 완료 처리 (markAnalyzed의 일괄 버전)
+     */
+    @Modifying
+    @Query("""
+            update RawDataFile f
+            set f.analyzed = true, f.analysisClaim = null, f.analysisLeaseUntil = null
+            where f.id in :ids and f.analysisClaim = :claim
+            """)
+    int markAnalyzed(@Param("ids") List<Long> ids, @Param("claim") String claim);
+
+    /**
+     * 분석에 실패한 행의 점유 해제 (시도 횟수는 유지 → 다음 주기에 재시도)
+     */
+    @Modifying
+    @Query("""
+            update RawDataFile f
+            set f.analysisClaim = null, f.analysisLeaseUntil = null
+            where f.id in :ids and f.analysisClaim = :claim
+            """)
+    int releaseAnalysisClaim(@Param("ids") List<Long> ids, @Param("claim") String claim);
+
+    /** 현재 claim을 보유한 id (점유 만료 후 다른 노드가 가져간 행 제외) */
+    @Query("select f.id from RawDataFile f where f.id in :ids and f.analysisClaim = :claim")
+    List<Long> findIdsStillClaimed(@Param("ids") List<Long> ids, @Param("claim") String claim);
+
+    /**
+     * 분석 결과로 샘플 수 / 시간 범위가 비어 있는 (컬럼 추가 전) 파일 보정
+     */
+    @Modifying
+    @Query("""
+            update RawDataFile f
+            set f.sampleCount = :sampleCount, f.firstSampleAt = :firstSampleAt, f.lastSampleAt = :lastSampleAt
+            where f.id = :id and f.firstSampleAt is null
+            """)
+    int fillSampleBounds(
+            @Param("id") Long id,
+            @Param("sampleCount") int sampleCount,
+            @Param("firstSampleAt") Long firstSampleAt,
+            @Param("lastSampleAt") Long lastSampleAt
+    );
+
+    /**
+     * 사용자의 [from, to) 구간과 겹치는 파일 (keyset 페이지네이션, 마지막 샘플 시각 → id 순)
+     * → idx_raw_data_files_user_last_sample (user_id, last_sample_at, id) 단일 범위 스캔
+     *   [scanFrom, scanTo): scanFrom = max(from, 커서 시각), scanTo = to + 파일 최대 시간 범위
+     * → 커서와 같은 시각의 파일은 id로만 구분 (scanFrom ≥ 커서 시각이므로 범위 조건과 동치)
+     * → 첫 샘플 시각으로 구간 뒤쪽 파일 제외 (파일을 열지 않음)
+     */
+    @Query("""
+            select new com.example.catchme.dto.RawDataFileResponse(
+                f.id, f.s3ObjectKey, f.format, f.sampleCount, f.firstSampleAt, f.lastSampleAt, f.createdAt, f.analyzed
+            )
+            from RawDataFile f
+            where f.user.id = :userId
+              and f.lastSampleAt >= :scanFrom
+              and f.lastSampleAt < :scanTo
+              and f.firstSampleAt < :to
+              and (f.lastSampleAt > :cursorAt or f.id > :cursorId)
+            order by f.lastSampleAt, f.id
+            """)
+    List<RawDataFileResponse> findInTimeRange(
+            @Param("userId") Long userId,
+            @Param("scanFrom") long scanFrom,
+            @Param("scanTo") long scanTo,
+            @Param("to") long to,
+            @Param("cursorAt") long cursorAt,
+            @Param("cursorId") long cursorId,
+            Pageable pageable
+    );
 }
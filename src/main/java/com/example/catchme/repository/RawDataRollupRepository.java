@@ -0,0 +1,72 @@
+package com.example.catchme.repository;
+
+import com.example.catchme.model.RawDataRollup;
+import com.example.catchme.model.RollupTier;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface RawDataRollupRepository extends JpaRepository<RawDataRollup, Long> {
+
+    /**
+     * 합산할 기존 버킷 (여러 노드가 같은 버킷을 동시에 합산하지 않도록 잠금)
+     * → [from, to] 범위 조건으로 uk_raw_data_rollups_user_tier_bucket 범위 스캔 (파일 1개 구간씩 호출, 버킷 수만큼 IN 목록을 만들지 않음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select r from RawDataRollup r
+            where r.user.id = :userId and r.tier = :tier
+              and r.bucketStart >= :from and r.bucketStart <= :to
+            """)
+    List<RawDataRollup> findForUpdate(
+            @Param("userId") Long userId,
+            @Param("tier") RollupTier tier,
+            @Param("from") long from,
+            @Param("to") long to
+    );
+
+    /**
+     * [from, to) 구간 버킷 (uk_raw_data_rollups_user_tier_bucket 범위 스캔)
+     */
+    @Query("""
+            select r from RawDataRollup r
+            where r.user.id = :userId and r.tier = :tier
+              and r.bucketStart >= :from and r.bucketStart < :to
+            order by r.bucketStart
+            """)
+    List<RawDataRollup> findInRange(
+            @Param("userId") Long userId,
+            @Param("tier") RollupTier tier,
+            @Param("from") long from,
+            @Param("to") long to
+    );
+
+    /**
+     * 보관 기간이 지난 버킷 id (idx_raw_data_rollups_tier_bucket 범위 스캔, 정리 1회분만)
+     */
+    @Query("""
+            select r.id from RawDataRollup r
+            where r.tier = :tier and r.bucketStart < :before
+            order by r.bucketStart
+            """)
+    List<Long> findIdsOlderThan(
+            @Param("tier") RollupTier tier,
+            @Param("before") long before,
+            Pageable pageable
+    );
+
+    /**
+     * 정리 1회분 삭제 (호출마다 짧은 트랜잭션 → 대량 삭제로 잠금 / undo가 커지지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from RawDataRollup r where r.id in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+}
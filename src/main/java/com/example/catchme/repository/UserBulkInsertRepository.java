@@ -0,0 +1,82 @@
+package com.example.catchme.repository;
+
+import com.example.catchme.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자 일괄 등록용 JDBC 저장소
+ *
+ * ✔ IDENTITY 전략에서는 JPA insert가 배치되지 않으므로 JdbcTemplate.batchUpdate 사용
+ * ✔ 기존 이메일 확인도 행 단위가 아닌 IN 조회 1회로 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBulkInsertRepository {
+
+    private static final String INSERT_SQL =
+            "insert into users (email, password, name, role, token_version, failed_login_count) "
+                    + "values (?, ?, ?, ?, 0, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * emails 중 이미 가입된 이메일
+     */
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        return new HashSet<>(namedJdbcTemplate.queryForList(
+                "select email from users where email in (:emails)",
+                new MapSqlParameterSource("emails", emails),
+                String.class
+        ));
+    }
+
+    /**
+     * 아직 가입되지 않은 users만 batch insert하고, 그 사이 가입되어 건너뛴 이메일 반환
+     * → 존재 확인과 insert만 하나의 짧은 트랜잭션으로 수행 (비밀번호 해시는 호출 전에 완료)
+     */
+    @Transactional
+    public List<String> insertNew(List<User> users, int batchSize) {
+        Set<String> existing = findExistingEmails(users.stream().map(User::getEmail).toList());
+
+        List<User> toInsert = new ArrayList<>(users.size());
+        List<String> skipped = new ArrayList<>();
+        for (User user : users) {
+            if (existing.contains(user.getEmail())) {
+                skipped.add(user.getEmail());
+            } else {
+                toInsert.add(user);
+            }
+        }
+
+        insertAll(toInsert, batchSize);
+        return skipped;
+    }
+
+    /**
+     * users를 batchSize 단위 JDBC batch insert
+     * (User는 저장 전 엔티티로 email / password / name / role만 사용)
+     */
+    public void insertAll(List<User> users, int batchSize) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, users, batchSize, (ps, user) -> {
+            ps.setString(1, user.getEmail());
+            ps.setString(2, user.getPassword());
+            ps.setString(3, user.getName());
+            ps.setString(4, user.getRole().name());
+        });
+    }
+}
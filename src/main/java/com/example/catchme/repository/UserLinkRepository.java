@@ -0,0 +1,63 @@
+package com.example.catchme.repository;
+
+import com.example.catchme.dto.LinkedGuardianResponse;
+import com.example.catchme.dto.LinkedPatientResponse;
+import com.example.catchme.model.UserLink;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface UserLinkRepository extends JpaRepository<UserLink, Long> {
+
+    @Query("""
+            select count(l) > 0 from UserLink l
+            where l.guardian.id = :guardianId and l.patient.id = :patientId
+            """)
+    boolean existsLink(@Param("guardianId") Long guardianId, @Param("patientId") Long patientId);
+
+    /**
+     * 보호자의 환자 목록 + 환자별 가장 최근 RawDataFile 메타데이터 (페이지당 쿼리 1회)
+     * → uk_user_links_guardian_patient 인덱스 범위 스캔, 최근 파일은 idx_raw_data_files_user_id (user_id, id) 역방향 1건 조회
+     * → Slice라서 전체 count 쿼리 없음
+     */
+    @Query("""
+            select new com.example.catchme.dto.LinkedPatientResponse(
+                p.id, p.name, p.email, f.id, f.s3ObjectKey, f.format, f.createdAt
+            )
+            from UserLink l
+            join l.patient p
+            left join RawDataFile f
+                on f.user = p
+                and f.id = (select max(f2.id) from RawDataFile f2 where f2.user = p)
+            where l.guardian.id = :guardianId
+            order by l.id
+            """)
+    Slice<LinkedPatientResponse> findPatientsOfGuardian(@Param("guardianId") Long guardianId, Pageable pageable);
+
+    /**
+     * 환자의 보호자 목록
+     */
+    @Query("""
+            select new com.example.catchme.dto.LinkedGuardianResponse(g.id, g.name, g.email, l.createdAt)
+            from UserLink l
+            join l.guardian g
+            where l.patient.id = :patientId
+            order by l.id
+            """)
+    List<LinkedGuardianResponse> findGuardiansOfPatient(@Param("patientId") Long patientId);
+
+    /**
+     * 환자의 보호자 id 목록 (알림 라우팅용, idx_user_links_patient)
+     */
+    @Query("select l.guardian.id from UserLink l where l.patient.id = :patientId")
+    List<Long> findGuardianIdsOfPatient(@Param("patientId") Long patientId);
+
+    @Modifying
+    @Query("delete from UserLink l where l.guardian.id = :userId or l.patient.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+}
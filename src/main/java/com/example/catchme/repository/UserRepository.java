@@ -2,9 +2,46 @@ package com.example.catchme.repository;
 
 import com.example.catchme.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    @Query("select u.tokenVersion from User u where u.id = :id")
+    Optional<Long> findTokenVersionById(@Param("id") Long id);
+
+    /**
+     * 로그인 실패 횟수를 DB에서 1 증가 (읽고-쓰기 대신 원자적 UPDATE → 동시 실패 요청의 lost update 방지)
+     * → 행 잠금이 트랜잭션 끝까지 유지되므로 같은 트랜잭션의 findFailedLoginCountById가 이 결과를 읽음
+     */
+    @Modifying
+    @Query("update User u set u.failedLoginCount = u.failedLoginCount + 1 where u.id = :id")
+    int incrementFailedLoginCount(@Param("id") Long id);
+
+    @Query("select u.failedLoginCount from User u where u.id = :id")
+    int findFailedLoginCountById(@Param("id") Long id);
+
+    /** 실패 횟수 초기화 + lockedUntil까지 잠금 */
+    @Modifying
+    @Query("update User u set u.failedLoginCount = 0, u.lockedUntil = :lockedUntil where u.id = :id")
+    int lock(@Param("id") Long id, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * 해시 교체 (로그인 후 재해시 전용, 자체 트랜잭션)
+     * → 해시 계산 중 비밀번호가 변경되었으면 0 반환 (새 비밀번호를 덮어쓰지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :newPassword where u.id = :id and u.password = :currentPassword")
+    int updatePasswordIfUnchanged(
+            @Param("id") Long id,
+            @Param("currentPassword") String currentPassword,
+            @Param("newPassword") String newPassword
+    );
 }
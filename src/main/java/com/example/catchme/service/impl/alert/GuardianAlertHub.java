@@ -0,0 +1,363 @@
+package com.example.catchme.service.impl.alert;
+
+import com.example.catchme.config.link.LinkProperties;
+import com.example.catchme.dto.GuardianAlertResponse;
+import com.example.catchme.repository.UserLinkRepository;
+import com.example.catchme.service.impl.detection.FallDetectedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 환자 이벤트를 연동된 보호자의 SSE 연결로 전달하는 fan-out 허브
+ *
+ * ✔ 연결은 async servlet(SseEmitter)로 유지 → 대기 중인 연결은 스레드를 점유하지 않음
+ * ✔ 이벤트 발행 스레드는 router 풀에 넘기기만 함 (보호자 조회 DB 접근은 router 풀, 전송은 writer 풀)
+ * ✔ 연결별 버퍼는 bufferCapacity로 제한, 느린 연결은 오래된 알림부터 버림
+ * ✔ 두 풀의 대기열은 크기 제한 → 포화 시 메모리를 늘리지 않고 알림을 버리거나 다음 예약 때 재시도
+ * ✔ 전송 1건이 writeTimeout을 넘기면 연결을 닫음 (멈춘 클라이언트가 writer 스레드를 계속 잡지 않도록)
+ * ✔ heartbeat는 최근 전송이 없던 연결에만, 연결당 최대 1개만 대기 (coalescing)
+ *
+ * ⚠ 연결 목록은 노드 메모리에만 있음 → 낙상을 감지한 노드에 연결된 보호자에게만 전달된다.
+ *   여러 노드로 운영하려면 보호자 연결을 같은 노드로 고정(sticky)하거나,
+ *   FallDetectedEvent를 pub/sub으로 모든 노드에 전파한 뒤 각 노드에서 onFallDetected를 호출해야 한다.
+ *
+ * 메트릭:
+ * - link.alert.connections : 현재 연결 수
+ * - link.alert.sent / dropped : 전송 / 버퍼 또는 router 대기열 초과로 버린 알림 수
+ * - link.alert.stalled : 전송 시간 초과로 닫은 연결 수
+ */
+@Slf4j
+@Component
+public class GuardianAlertHub {
+
+    private static final String FALL_DETECTED = "FALL_DETECTED";
+
+    private final UserLinkRepository userLinkRepository;
+    private final LinkProperties.Alert properties;
+    private final ThreadPoolExecutor writer;
+    private final ThreadPoolExecutor router;
+
+    /** 보호자 id → 연결 목록 */
+    private final Map<Long, Set<Connection>> connectionsByGuardian = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    private final Counter sentCounter;
+    private final Counter droppedCounter;
+    private final Counter stalledCounter;
+
+    public GuardianAlertHub(
+            UserLinkRepository userLinkRepository,
+            LinkProperties linkProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.userLinkRepository = userLinkRepository;
+        this.properties = linkProperties.getAlert();
+
+        // 연결 1개당 대기 중인 전송 작업은 최대 1개 (Connection.scheduled)
+        int writerThreads = Math.max(1, properties.getWriterThreads());
+        this.writer = new ThreadPoolExecutor(
+                writerThreads,
+                writerThreads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, properties.getWriterQueueCapacity())),
+                new CustomizableThreadFactory("guardian-alert-")
+        );
+
+        // 보호자 조회(DB)가 느려져도 전송은 계속되도록 별도 풀
+        int routerThreads = Math.max(1, properties.getRouterThreads());
+        this.router = new ThreadPoolExecutor(
+                routerThreads,
+                routerThreads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, properties.getRouterQueueCapacity())),
+                new CustomizableThreadFactory("guardian-alert-router-")
+        );
+
+        Gauge.builder("link.alert.connections", connectionCount, AtomicInteger::get)
+                .description("보호자 알림 SSE 연결 수")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("link.alert.sent")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("link.alert.dropped")
+                .register(meterRegistry);
+        this.stalledCounter = Counter.builder("link.alert.stalled")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 보호자 알림 구독 (연결 수 초과 시 가장 오래된 연결을 닫고 새 연결 유지)
+     */
+    public SseEmitter subscribe(Long guardianId) {
+        SseEmitter emitter = new SseEmitter(properties.getConnectionTimeout().toMillis());
+        Connection connection = new Connection(guardianId, emitter);
+
+        Connection[] evicted = new Connection[1];
+        connectionsByGuardian.compute(guardianId, (id, connections) -> {
+            if (connections == null) {
+                connections = ConcurrentHashMap.newKeySet();
+            }
+            if (connections.size() >= Math.max(1, properties.getMaxConnectionsPerGuardian())) {
+                evicted[0] = connections.stream()
+                        .min((a, b) -> Long.compare(a.openedAtNanos, b.openedAtNanos))
+                        .orElse(null);
+                connections.remove(evicted[0]);
+            }
+            connections.add(connection);
+            return connections;
+        });
+        connectionCount.incrementAndGet();
+        if (evicted[0] != null) {
+            evicted[0].close();
+        }
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+
+        // 연결 직후 1회 전송 → 응답 헤더가 바로 나가 클라이언트가 연결 완료를 인지
+        connection.offerHeartbeat();
+        return emitter;
+    }
+
+    /**
+     * 낙상 감지 → 연동된 보호자 연결로 전달 (보호자 조회는 router 풀, 전송은 writer 풀에서 수행)
+     */
+    @EventListener
+    public void onFallDetected(FallDetectedEvent event) {
+        if (connectionsByGuardian.isEmpty()) {
+            return;
+        }
+
+        GuardianAlertResponse alert = new GuardianAlertResponse(
+                FALL_DETECTED,
+                event.getUserId(),
+                event.getSampleTimestamp(),
+                event.getImpactMagnitude(),
+                event.getDetectedAtMillis()
+        );
+        if (!execute(router, () -> route(event.getUserId(), alert))) {
+            droppedCounter.increment();
+            log.warn("guardian alert dropped, router queue full: patientId={}", event.getUserId());
+        }
+    }
+
+    private void route(Long patientId, GuardianAlertResponse alert) {
+        List<Long> guardianIds = userLinkRepository.findGuardianIdsOfPatient(patientId);
+        for (Long guardianId : guardianIds) {
+            Set<Connection> connections = connectionsByGuardian.get(guardianId);
+            if (connections == null) {
+                continue;
+            }
+            for (Connection connection : connections) {
+                connection.offer(alert);
+            }
+        }
+    }
+
+    /**
+     * 최근 전송이 없던 연결에만 heartbeat (프록시 / 로드밸런서 idle timeout 방지)
+     */
+    @Scheduled(fixedDelayString = "${link.alert.heartbeat-interval:PT25S}")
+    void sendHeartbeats() {
+        long idleNanos = properties.getHeartbeatInterval().toNanos();
+        long now = System.nanoTime();
+
+        for (Set<Connection> connections : connectionsByGuardian.values()) {
+            for (Connection connection : connections) {
+                if (now - connection.lastWriteAtNanos >= idleNanos) {
+                    connection.offerHeartbeat();
+                }
+            }
+        }
+    }
+
+    /**
+     * 전송이 writeTimeout을 넘긴 연결 닫기
+     * → 연결 목록에서 바로 빠져 더 이상 전송이 예약되지 않고,
+     *   막혀 있던 전송은 응답 종료로 실패하면서 writer 스레드가 풀려남
+     */
+    @Scheduled(fixedDelayString = "${link.alert.write-timeout:PT10S}")
+    void closeStalledConnections() {
+        long timeoutNanos = properties.getWriteTimeout().toNanos();
+        long now = System.nanoTime();
+
+        for (Set<Connection> connections : connectionsByGuardian.values()) {
+            for (Connection connection : connections) {
+                long startedAt = connection.writeStartedAtNanos;
+                if (startedAt != 0 && now - startedAt >= timeoutNanos) {
+                    stalledCounter.increment();
+                    log.warn("guardian alert connection stalled, closing: guardianId={}", connection.guardianId);
+                    connection.close();
+                }
+            }
+        }
+    }
+
+    private void remove(Connection connection) {
+        if (!connection.closed.compareAndSet(false, true)) {
+            return;
+        }
+        connectionCount.decrementAndGet();
+        connectionsByGuardian.computeIfPresent(connection.guardianId, (id, connections) -> {
+            connections.remove(connection);
+            return connections.isEmpty() ? null : connections;
+        });
+    }
+
+    /**
+     * 대기열이 가득 찼거나 종료 중이면 false
+     */
+    private static boolean execute(ThreadPoolExecutor executor, Runnable task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        router.shutdownNow();
+        writer.shutdownNow();
+        for (Set<Connection> connections : connectionsByGuardian.values()) {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+    }
+
+    /**
+     * SSE 연결 1개 + 전송 대기 버퍼
+     * (버퍼는 연결 단위로 동기화, 전송은 한 번에 1개 writer 스레드만 수행)
+     */
+    private class Connection {
+
+        private final Long guardianId;
+        private final SseEmitter emitter;
+        private final long openedAtNanos = System.nanoTime();
+
+        /** 처음에는 작게 잡고 알림이 쌓일 때만 커짐 (대부분의 연결은 비어 있음) */
+        private final ArrayDeque<GuardianAlertResponse> pending = new ArrayDeque<>(2);
+        private boolean heartbeatPending;
+
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long lastWriteAtNanos = System.nanoTime();
+
+        /** 진행 중인 전송의 시작 시각 (전송 중이 아니면 0) */
+        private volatile long writeStartedAtNanos;
+
+        Connection(Long guardianId, SseEmitter emitter) {
+            this.guardianId = guardianId;
+            this.emitter = emitter;
+        }
+
+        void offer(GuardianAlertResponse alert) {
+            synchronized (this) {
+                if (closed.get()) {
+                    return;
+                }
+                if (pending.size() >= Math.max(1, properties.getBufferCapacity())) {
+                    pending.pollFirst();
+                    droppedCounter.increment();
+                }
+                pending.addLast(alert);
+            }
+            schedule();
+        }
+
+        void offerHeartbeat() {
+            synchronized (this) {
+                if (closed.get()) {
+                    return;
+                }
+                // 보낼 알림이 있거나 이미 대기 중이면 합침 (대기열 포화로 예약하지 못한 알림은 여기서 다시 예약)
+                if (pending.isEmpty()) {
+                    heartbeatPending = true;
+                }
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true) && !execute(writer, this::drain)) {
+                // writer 대기열 포화 → 버퍼는 유지하고 다음 알림 / heartbeat 때 다시 예약
+                scheduled.set(false);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                GuardianAlertResponse alert;
+                boolean heartbeat;
+                synchronized (this) {
+                    alert = pending.pollFirst();
+                    heartbeat = alert == null && heartbeatPending;
+                    heartbeatPending = false;
+                    if (alert == null && !heartbeat) {
+                        scheduled.set(false);
+                        return;
+                    }
+                }
+
+                writeStartedAtNanos = System.nanoTime();
+                try {
+                    if (alert != null) {
+                        emitter.send(SseEmitter.event()
+                                .name(alert.getType())
+                                .data(alert));
+                        sentCounter.increment();
+                    } else {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                    lastWriteAtNanos = System.nanoTime();
+
+                } catch (IOException | IllegalStateException e) {
+                    // 클라이언트 연결 종료 / 이미 완료된 emitter
+                    close();
+                    scheduled.set(false);
+                    return;
+                } finally {
+                    writeStartedAtNanos = 0;
+                }
+            }
+        }
+
+        void close() {
+            remove(this);
+            synchronized (this) {
+                pending.clear();
+                heartbeatPending = false;
+            }
+            try {
+                emitter.complete();
+            } catch (RuntimeException ignored) {
+                // 이미 종료된 연결
+            }
+        }
+    }
+}
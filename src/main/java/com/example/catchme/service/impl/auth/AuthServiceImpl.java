@@ -1,51 +1,87 @@
 package com.example.catchme.service.impl.auth;
 
+import com.example.catchme.config.auth.LoginProtectionProperties;
+import com.example.catchme.config.auth.LoginRateLimiter;
+import com.example.catchme.config.auth.PasswordHashingExecutor;
+import com.example.catchme.config.auth.PasswordHashingExecutor.Priority;
 import com.example.catchme.config.auth.TokenProvider;
+import com.example.catchme.dto.BulkSignupRequest;
+import com.example.catchme.dto.BulkSignupResponse;
 import com.example.catchme.dto.LoginRequest;
 import com.example.catchme.dto.LoginResponse;
+import com.example.catchme.dto.RefreshTokenRequest;
 import com.example.catchme.dto.SignupRequest;
 import com.example.catchme.exception.exceptions.DuplicateEmailException;
 import com.example.catchme.exception.exceptions.InvalidLoginException;
+import com.example.catchme.exception.exceptions.InvalidRefreshTokenException;
+import com.example.catchme.exception.exceptions.PasswordHashingBusyException;
+import com.example.catchme.exception.exceptions.PermissionDeniedException;
+import com.example.catchme.model.RefreshToken;
 import com.example.catchme.model.Role;
 import com.example.catchme.model.User;
+import com.example.catchme.repository.RefreshTokenRepository;
+import com.example.catchme.repository.UserBulkInsertRepository;
 import com.example.catchme.repository.UserRepository;
 import com.example.catchme.service.interfaces.auth.AuthService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 
 public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final TokenProvider tokenProvider;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final LoginRateLimiter loginRateLimiter;
+    private final LoginProtectionProperties loginProtectionProperties;
+    private final UserBulkInsertRepository userBulkInsertRepository;
+    private final PasswordRehasher passwordRehasher;
     private static final Duration ACCESS_TOKEN_DURATION = Duration.ofHours(1);
+    private static final Duration REFRESH_TOKEN_DURATION = Duration.ofDays(14);
+    private static final int REFRESH_TOKEN_BYTES = 32;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final int MAX_BULK_SIGNUP = 1000;
+    private static final int BULK_INSERT_BATCH_SIZE = 200;
 
-    @Transactional
+    /**
+     * 해시 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 해시 후 saveAndFlush(자체 트랜잭션)만 수행
+     */
     @Override
     public void signup(SignupRequest request) {
 
-        // 1️⃣ 이메일 중복 체크
-        if (userRepository.findByEmail(request.getEmail()).isPresent()) {
-            throw new DuplicateEmailException("이미 존재하는 이메일입니다.");
-        }//서비스는 HTTP를 모름, 오직 도메인 의미만 던짐
-
         Role role = request.getRole();
         if (role == null) {
             role = Role.USER; // 기본값
         }
 
-        // 2️⃣ 비밀번호 암호화
+        // 1️⃣ 비밀번호 암호화 (전용 해시 실행기)
         String encodedPassword =
-                passwordEncoder.encode(request.getPassword());
+                passwordHashingExecutor.encode(request.getPassword(), Priority.SIGNUP);
 
-        // 3️⃣ User 엔티티 생성
+        // 2️⃣ User 엔티티 생성
         User user = User.builder()
                 .email(request.getEmail())
                 .password(encodedPassword)
@@ -53,13 +89,128 @@ public class AuthServiceImpl implements AuthService {
                 .role(role) // 기본 권한
                 .build();
 
-        // 4️⃣ 저장
-        userRepository.save(user);
+        // 3️⃣ 저장 (중복 확인은 별도 SELECT 없이 email 유니크 제약에 맡김)
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isEmailUniqueViolation(e)) {
+                throw new DuplicateEmailException("이미 존재하는 이메일입니다.");
+            }//서비스는 HTTP를 모름, 오직 도메인 의미만 던짐
+            throw e;
+        }
+    }
+
+    /**
+     * 보호자(기관 담당자)가 여러 사용자를 한 번에 등록
+     *
+     * ✔ 이미 가입된 / 요청 안에서 중복된 이메일은 건너뛰고 응답에 포함
+     *   (이메일은 단건 가입 / 로그인, DB 유니크 키와 같이 대소문자를 구분해 비교)
+     * ✔ 비밀번호 해시는 트랜잭션 밖에서 수행 → 해시 동안 DB 커넥션을 잡지 않음
+     * ✔ BULK_INSERT_BATCH_SIZE명씩 해시 → 존재 확인 + JDBC batch insert (짧은 트랜잭션)
+     * ✔ 도중에 해시 실행기가 포화되면 등록된 만큼 커밋하고 나머지는 unprocessedEmails로 반환
+     *   (처음부터 포화면 503, 다시 요청하면 이미 등록된 이메일은 건너뜀)
+     */
+    @Override
+    public BulkSignupResponse bulkSignup(User requester, BulkSignupRequest request) {
+
+        if (requester.getRole() != Role.GUARDIAN) {
+            throw new PermissionDeniedException("보호자만 일괄 등록할 수 있습니다.");
+        }
+
+        List<SignupRequest> requests = request.getUsers() != null ? request.getUsers() : List.of();
+        if (requests.isEmpty() || requests.size() > MAX_BULK_SIGNUP) {
+            throw new IllegalArgumentException("일괄 등록은 1명 이상 " + MAX_BULK_SIGNUP + "명 이하만 가능합니다.");
+        }
+
+        // 1️⃣ 요청 안 중복 제거 (먼저 나온 항목 유지)
+        Map<String, SignupRequest> byEmail = new LinkedHashMap<>();
+        List<String> skippedEmails = new ArrayList<>();
+        for (SignupRequest signup : requests) {
+            if (signup.getEmail() == null || signup.getPassword() == null || signup.getName() == null) {
+                throw new IllegalArgumentException("email, password, name은 필수입니다.");
+            }
+            if (byEmail.putIfAbsent(signup.getEmail(), signup) != null) {
+                skippedEmails.add(signup.getEmail());
+            }
+        }
+
+        // 2️⃣ 이미 가입된 이메일 제외 (IN 조회 1회, 해시할 대상을 줄이기 위한 사전 확인)
+        Set<String> existing = userBulkInsertRepository.findExistingEmails(byEmail.keySet());
+        List<SignupRequest> toCreate = new ArrayList<>(byEmail.size());
+        for (SignupRequest signup : byEmail.values()) {
+            if (existing.contains(signup.getEmail())) {
+                skippedEmails.add(signup.getEmail());
+            } else {
+                toCreate.add(signup);
+            }
+        }
+
+        // 3️⃣ 묶음 단위로 해시(트랜잭션 밖) → 등록(짧은 트랜잭션)
+        int createdCount = 0;
+        for (int from = 0; from < toCreate.size(); from += BULK_INSERT_BATCH_SIZE) {
+            List<SignupRequest> chunk =
+                    toCreate.subList(from, Math.min(from + BULK_INSERT_BATCH_SIZE, toCreate.size()));
+
+            List<String> encodedPasswords;
+            try {
+                encodedPasswords = passwordHashingExecutor.encodeAll(
+                        chunk.stream().map(SignupRequest::getPassword).toList(),
+                        Priority.SIGNUP
+                );
+            } catch (PasswordHashingBusyException e) {
+                if (from == 0) {
+                    throw e;
+                }
+                List<String> unprocessed = toCreate.subList(from, toCreate.size()).stream()
+                        .map(SignupRequest::getEmail)
+                        .toList();
+                log.info("bulk signup stopped (hashing busy): created={}, unprocessed={}",
+                        createdCount, unprocessed.size());
+                return new BulkSignupResponse(createdCount, skippedEmails, unprocessed);
+            }
+
+            List<User> users = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                SignupRequest signup = chunk.get(i);
+                users.add(User.builder()
+                        .email(signup.getEmail())
+                        .password(encodedPasswords.get(i))
+                        .name(signup.getName())
+                        .role(signup.getRole() != null ? signup.getRole() : Role.USER)
+                        .build());
+            }
+
+            // 4️⃣ 존재 재확인 + JDBC batch insert (동시 가입과 충돌하면 이 묶음만 rollback 후 DuplicateEmailException)
+            try {
+                List<String> skipped = userBulkInsertRepository.insertNew(users, BULK_INSERT_BATCH_SIZE);
+                skippedEmails.addAll(skipped);
+                createdCount += users.size() - skipped.size();
+            } catch (DataIntegrityViolationException e) {
+                if (isEmailUniqueViolation(e)) {
+                    throw new DuplicateEmailException("이미 존재하는 이메일이 포함되어 있습니다.");
+                }
+                throw e;
+            }
+        }
+
+        return new BulkSignupResponse(createdCount, skippedEmails, List.of());
+    }
+
+    /**
+     * 제약 이름으로 email 중복 위반인지 판별 (DB마다 대소문자가 다르므로 무시)
+     */
+    private static boolean isEmailUniqueViolation(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null
+                && message.toLowerCase(Locale.ROOT).contains(User.EMAIL_UNIQUE_CONSTRAINT);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(noRollbackFor = InvalidLoginException.class)
     @Override
-    public LoginResponse login(LoginRequest request) {
+    public LoginResponse login(LoginRequest request, String clientIp) {
+
+        // 0️⃣ 시도 횟수 제한 (DB 조회 / BCrypt 전에 거절)
+        loginRateLimiter.checkLogin(request.getEmail(), clientIp);
 
         // 1️⃣ 이메일 기준 사용자 조회
         User user = userRepository.findByEmail(request.getEmail())
@@ -67,16 +218,123 @@ public class AuthServiceImpl implements AuthService {
                         new InvalidLoginException("이메일 또는 비밀번호가 올바르지 않습니다.")
                 );
 
-        // 2️⃣ 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        // 1️⃣-1 잠긴 계정은 비밀번호 검증 없이 거절
+        //      (없는 이메일과 같은 응답 → 응답으로 가입 여부를 알 수 없게 함)
+        if (!user.isAccountNonLocked()) {
+            log.info("login rejected (locked): userId={}", user.getId());
             throw new InvalidLoginException("이메일 또는 비밀번호가 올바르지 않습니다.");
         }
 
+        // 2️⃣ 비밀번호 검증 (전용 해시 실행기, 로그인 우선)
+        if (!passwordHashingExecutor.matches(request.getPassword(), user.getPassword(), Priority.LOGIN)) {
+            // 실패 횟수는 커밋되어야 하므로 InvalidLoginException은 rollback 하지 않음
+            recordLoginFailure(user);
+            throw new InvalidLoginException("이메일 또는 비밀번호가 올바르지 않습니다.");
+        }
+        user.recordLoginSuccess();
+
+        // 2️⃣-1 이전 알고리즘 / 낮은 비용의 해시면 평문을 알고 있는 지금 재해시 예약 (커밋 후 비동기)
+        passwordRehasher.rehashAfterCommit(user, request.getPassword());
+
         // 3️⃣ Access Token 생성 (⭐ TokenProvider 기준)
         String accessToken =
                 tokenProvider.generateToken(user, ACCESS_TOKEN_DURATION);
 
-        // 4️⃣ JSON 응답
-        return new LoginResponse(accessToken,user.getRole().name());
+        // 4️⃣ Refresh Token 발급 (새 family 시작)
+        String refreshToken =
+                issueRefreshToken(user, UUID.randomUUID().toString());
+
+        // 5️⃣ JSON 응답
+        return new LoginResponse(accessToken, user.getRole().name(), refreshToken);
+    }
+
+    /**
+     * 로그인 실패 기록, max-failed-attempts번 연속 실패 시 lock-duration 동안 잠금
+     *
+     * ✔ 엔티티 값을 읽고 쓰지 않고 DB에서 원자적으로 증가 → 동시 실패 요청도 모두 집계
+     * ✔ 증가한 행은 커밋까지 잠겨 있으므로 다시 읽은 값으로 잠금 여부 판단
+     */
+    private void recordLoginFailure(User user) {
+        userRepository.incrementFailedLoginCount(user.getId());
+
+        int failedCount = userRepository.findFailedLoginCountById(user.getId());
+        if (failedCount >= loginProtectionProperties.getMaxFailedAttempts()) {
+            userRepository.lock(user.getId(), LocalDateTime.now().plus(loginProtectionProperties.getLockDuration()));
+            log.info("account locked after repeated login failures: userId={}", user.getId());
+        }
+    }
+
+    /**
+     * Refresh Token으로 Access Token 재발급 (BCrypt 검증 없이 해시 조회 1회)
+     *
+     * ✔ 사용한 Refresh Token은 즉시 교체 (rotation)
+     * ✔ 이미 교체된 토큰이 다시 오면 탈취로 보고 family 전체 폐기
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    @Override
+    public LoginResponse refresh(RefreshTokenRequest request) {
+
+        if (request.getRefreshToken() == null || request.getRefreshToken().isBlank()) {
+            throw new InvalidRefreshTokenException("유효하지 않은 Refresh Token 입니다.");
+        }
+
+        // 1️⃣ 해시로 조회 (동시 재발급 방지를 위해 잠금)
+        RefreshToken current = refreshTokenRepository
+                .findByTokenHashForUpdate(hash(request.getRefreshToken()))
+                .orElseThrow(() ->
+                        new InvalidRefreshTokenException("유효하지 않은 Refresh Token 입니다.")
+                );
+
+        // 2️⃣ 재사용 감지 → family 전체 폐기 (폐기는 커밋되어야 하므로 rollback 하지 않음)
+        if (current.isRotated() && !current.isRevoked()) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId());
+            log.warn("refresh token reuse detected: userId={}, family={}",
+                    current.getUser().getId(), current.getFamilyId());
+            throw new InvalidRefreshTokenException("유효하지 않은 Refresh Token 입니다.");
+        }
+
+        if (current.isRevoked() || current.isRotated() || current.isExpired(LocalDateTime.now())) {
+            throw new InvalidRefreshTokenException("유효하지 않은 Refresh Token 입니다.");
+        }
+
+        // 3️⃣ rotation: 현재 토큰 교체 처리 후 같은 family로 새 토큰 발급
+        current.markRotated();
+        User user = current.getUser();
+
+        String accessToken =
+                tokenProvider.generateToken(user, ACCESS_TOKEN_DURATION);
+        String refreshToken =
+                issueRefreshToken(user, current.getFamilyId());
+
+        return new LoginResponse(accessToken, user.getRole().name(), refreshToken);
+    }
+
+    /**
+     * 임의의 Refresh Token을 만들어 해시만 저장하고 원문을 반환
+     */
+    private String issueRefreshToken(User user, String familyId) {
+        byte[] random = new byte[REFRESH_TOKEN_BYTES];
+        SECURE_RANDOM.nextBytes(random);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+
+        refreshTokenRepository.save(RefreshToken.issue(
+                user,
+                hash(token),
+                familyId,
+                LocalDateTime.now().plus(REFRESH_TOKEN_DURATION)
+        ));
+        return token;
+    }
+
+    /**
+     * Refresh Token 원문 → SHA-256 hex (원문은 충분히 무작위이므로 salt 불필요)
+     */
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
     }
 }
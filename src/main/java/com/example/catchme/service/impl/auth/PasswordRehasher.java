@@ -0,0 +1,67 @@
+package com.example.catchme.service.impl.auth;
+
+import com.example.catchme.config.auth.PasswordHashingExecutor;
+import com.example.catchme.config.auth.PasswordHashingExecutor.Priority;
+import com.example.catchme.exception.exceptions.PasswordHashingBusyException;
+import com.example.catchme.model.User;
+import com.example.catchme.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 로그인에 성공한 사용자의 약한 비밀번호 해시를 로그인 응답과 분리해 교체
+ *
+ * ✔ 로그인 트랜잭션 커밋 후 해시 실행기에 REHASH 우선순위로 등록만 하고 반환 (응답 대기 없음)
+ * ✔ 저장은 별도 트랜잭션의 조건부 UPDATE (그 사이 비밀번호가 바뀌었으면 덮어쓰지 않음)
+ * ✔ 해시 실행기가 포화 상태면 이번에는 생략 (다음 로그인에서 다시 시도)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordRehasher {
+
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final UserRepository userRepository;
+
+    public void rehashAfterCommit(User user, String rawPassword) {
+        String currentPassword = user.getPassword();
+        if (!passwordHashingExecutor.needsUpgrade(currentPassword)) {
+            return;
+        }
+
+        Long userId = user.getId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(userId, currentPassword, rawPassword);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(userId, currentPassword, rawPassword);
+            }
+        });
+    }
+
+    private void submit(Long userId, String currentPassword, String rawPassword) {
+        try {
+            passwordHashingExecutor.encodeInBackground(rawPassword, Priority.REHASH,
+                    encoded -> save(userId, currentPassword, encoded));
+        } catch (PasswordHashingBusyException e) {
+            log.debug("password rehash skipped (busy): userId={}", userId);
+        }
+    }
+
+    private void save(Long userId, String currentPassword, String encoded) {
+        try {
+            if (userRepository.updatePasswordIfUnchanged(userId, currentPassword, encoded) == 0) {
+                log.debug("password rehash discarded (password changed): userId={}", userId);
+            }
+        } catch (RuntimeException e) {
+            // 응답과 무관한 작업이므로 기록만 남기고 다음 로그인에서 다시 시도
+            log.warn("password rehash save failed: userId={}", userId, e);
+        }
+    }
+}
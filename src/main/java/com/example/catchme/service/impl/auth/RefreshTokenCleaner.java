@@ -0,0 +1,30 @@
+package com.example.catchme.service.impl.auth;
+
+import com.example.catchme.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료된 Refresh Token 정리 (rotation마다 행이 쌓이므로 주기적으로 삭제)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenCleaner {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Scheduled(cron = "0 0 * * * *")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("expired refresh tokens deleted: {}", deleted);
+        }
+    }
+}
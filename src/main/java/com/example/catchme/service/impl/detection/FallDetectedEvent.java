@@ -0,0 +1,23 @@
+package com.example.catchme.service.impl.detection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 낙상 감지 이벤트 (ApplicationEventPublisher로 발행)
+ */
+@Getter
+@AllArgsConstructor
+public class FallDetectedEvent {
+
+    private final Long userId;
+
+    /** 판정이 완료된 샘플의 timestamp (클라이언트 값 그대로) */
+    private final String sampleTimestamp;
+
+    /** 충격 구간 최대 가속도 크기 (g) */
+    private final double impactMagnitude;
+
+    /** 서버 감지 시각 (epoch millis) */
+    private final long detectedAtMillis;
+}
@@ -0,0 +1,263 @@
+package com.example.catchme.service.impl.detection;
+
+import com.example.catchme.config.detection.FallDetectionProperties;
+import com.example.catchme.dto.RawSensorDataRequest;
+import com.example.catchme.model.User;
+import com.example.catchme.service.interfaces.rawData.SensorSampleListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 접수된 센서 샘플로 낙상을 실시간 판정하는 엔진
+ *
+ * 판정 규칙 (사용자별 상태 머신):
+ * 1️⃣ 자유낙하 : 가속도 크기 < freeFallThreshold 가 freeFallMinSamples 이상 연속
+ * 2️⃣ 충격     : 자유낙하 후 impactWindowSamples 이내에 가속도 크기 > impactThreshold
+ * 3️⃣ 무동작   : 충격 후 inactivitySamples 동안 가속도 분산 < inactivityVariance
+ *               그리고 평균 압력 합(p1~p4) < unloadedPressure
+ * → 세 조건을 모두 만족하면 FallDetectedEvent 발행
+ *
+ * ✔ 사용자별 슬라이딩 윈도우는 primitive 링 버퍼 + 누적 합(합 / 제곱합)으로 유지
+ * ✔ 샘플당 O(1) 연산, 샘플당 객체 생성 없음
+ */
+@Slf4j
+@Component
+public class FallDetectionEngine implements SensorSampleListener {
+
+    private final FallDetectionProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter fallCounter;
+
+    private final Map<Long, UserFallDetector> detectors = new ConcurrentHashMap<>();
+
+    public FallDetectionEngine(
+            FallDetectionProperties properties,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.fallCounter = Counter.builder("rawdata.detection.falls")
+                .description("감지된 낙상 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onSample(User user, RawSensorDataRequest sample) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        UserFallDetector detector = detectorOf(user);
+        synchronized (detector) {
+            if (detector.accept(sample)) {
+                publish(user.getId(), sample.getTimestamp(), detector.impactPeak);
+            }
+        }
+    }
+
+    @Override
+    public void onSamples(User user, List<RawSensorDataRequest> samples) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        UserFallDetector detector = detectorOf(user);
+
+        // 같은 사용자의 요청이 동시에 들어와도 샘플 순서대로 판정
+        synchronized (detector) {
+            for (RawSensorDataRequest sample : samples) {
+                if (detector.accept(sample)) {
+                    publish(user.getId(), sample.getTimestamp(), detector.impactPeak);
+                }
+            }
+        }
+    }
+
+    private UserFallDetector detectorOf(User user) {
+        UserFallDetector detector = detectors.get(user.getId());
+        if (detector == null) {
+            detector = detectors.computeIfAbsent(user.getId(), id -> new UserFallDetector(properties));
+        }
+        return detector;
+    }
+
+    private void publish(Long userId, String sampleTimestamp, double impactMagnitude) {
+        fallCounter.increment();
+        log.warn("fall detected: userId={}, timestamp={}, impact={}g", userId, sampleTimestamp, impactMagnitude);
+        eventPublisher.publishEvent(new FallDetectedEvent(
+                userId, sampleTimestamp, impactMagnitude, System.currentTimeMillis()
+        ));
+    }
+
+    /**
+     * 일정 시간 샘플이 없던 사용자 상태 제거
+     */
+    @Scheduled(fixedDelayString = "${fall-detection.sweep-interval:PT1M}")
+    void sweepIdleDetectors() {
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        long now = System.nanoTime();
+        detectors.values().removeIf(detector -> now - detector.lastSampleAtNanos > idleNanos);
+    }
+
+    /**
+     * 사용자 1명의 판정 상태 (FallDetectionEngine이 detector 단위로 동기화)
+     */
+    private static class UserFallDetector {
+
+        private static final int NOT_IN_PROGRESS = -1;
+
+        private final double freeFallThreshold;
+        private final int freeFallMinSamples;
+        private final double impactThreshold;
+        private final int impactWindowSamples;
+        private final double inactivityVariance;
+        private final int unloadedPressure;
+        private final long cooldownNanos;
+
+        // 슬라이딩 윈도우 (링 버퍼) + 누적 합
+        private final double[] magnitudes;
+        private final int[] loads;
+        private int head;
+        private int size;
+        private double magnitudeSum;
+        private double magnitudeSquareSum;
+        private long loadSum;
+        private int samplesUntilResync;
+
+        // 상태 머신
+        private int freeFallRun;
+        private int samplesSinceFreeFall = NOT_IN_PROGRESS;
+        private int samplesSinceImpact = NOT_IN_PROGRESS;
+        private double impactPeak;
+
+        private volatile long lastSampleAtNanos = System.nanoTime();
+        private long lastAlertAtNanos;
+        private boolean alerted;
+
+        UserFallDetector(FallDetectionProperties properties) {
+            this.freeFallThreshold = properties.getFreeFallThreshold();
+            this.freeFallMinSamples = properties.getFreeFallMinSamples();
+            this.impactThreshold = properties.getImpactThreshold();
+            this.impactWindowSamples = properties.getImpactWindowSamples();
+            this.inactivityVariance = properties.getInactivityVariance();
+            this.unloadedPressure = properties.getUnloadedPressure();
+            this.cooldownNanos = properties.getAlertCooldown().toNanos();
+
+            int window = Math.max(1, properties.getInactivitySamples());
+            this.magnitudes = new double[window];
+            this.loads = new int[window];
+            this.samplesUntilResync = window;
+        }
+
+        /**
+         * 샘플 1개 반영, 이 샘플로 낙상 판정이 완료되면 true
+         */
+        boolean accept(RawSensorDataRequest sample) {
+            double ax = sample.getAccX();
+            double ay = sample.getAccY();
+            double az = sample.getAccZ();
+            double magnitude = Math.sqrt(ax * ax + ay * ay + az * az);
+            int load = sample.getPressure1() + sample.getPressure2() + sample.getPressure3() + sample.getPressure4();
+
+            long now = System.nanoTime();
+            lastSampleAtNanos = now;
+            push(magnitude, load);
+
+            // 3️⃣ 충격 이후 관찰 중 → 윈도우가 충격 이후 샘플로 채워지면 판정
+            if (samplesSinceImpact != NOT_IN_PROGRESS) {
+                if (magnitude > impactPeak) {
+                    impactPeak = magnitude;
+                }
+                if (++samplesSinceImpact < magnitudes.length) {
+                    return false;
+                }
+                samplesSinceImpact = NOT_IN_PROGRESS;
+                return isInactiveAndUnloaded() && passCooldown(now);
+            }
+
+            // 2️⃣ 자유낙하 이후 충격 대기
+            if (samplesSinceFreeFall != NOT_IN_PROGRESS) {
+                if (magnitude >= impactThreshold) {
+                    samplesSinceFreeFall = NOT_IN_PROGRESS;
+                    samplesSinceImpact = 0;
+                    impactPeak = magnitude;
+                    freeFallRun = 0;
+                    return false;
+                }
+                if (++samplesSinceFreeFall > impactWindowSamples) {
+                    samplesSinceFreeFall = NOT_IN_PROGRESS;
+                }
+            }
+
+            // 1️⃣ 자유낙하 연속 구간 추적
+            if (magnitude <= freeFallThreshold) {
+                if (++freeFallRun >= freeFallMinSamples) {
+                    samplesSinceFreeFall = 0;
+                }
+            } else {
+                freeFallRun = 0;
+            }
+            return false;
+        }
+
+        private void push(double magnitude, int load) {
+            if (size == magnitudes.length) {
+                double evicted = magnitudes[head];
+                magnitudeSum -= evicted;
+                magnitudeSquareSum -= evicted * evicted;
+                loadSum -= loads[head];
+            } else {
+                size++;
+            }
+
+            magnitudes[head] = magnitude;
+            loads[head] = load;
+            magnitudeSum += magnitude;
+            magnitudeSquareSum += magnitude * magnitude;
+            loadSum += load;
+            head = (head + 1) % magnitudes.length;
+
+            // 빼기 누적으로 생기는 부동소수 오차를 윈도우 1바퀴마다 재계산 (샘플당 평균 O(1))
+            if (--samplesUntilResync == 0) {
+                resync();
+            }
+        }
+
+        private void resync() {
+            double sum = 0;
+            double squareSum = 0;
+            for (int i = 0; i < size; i++) {
+                sum += magnitudes[i];
+                squareSum += magnitudes[i] * magnitudes[i];
+            }
+            magnitudeSum = sum;
+            magnitudeSquareSum = squareSum;
+            samplesUntilResync = magnitudes.length;
+        }
+
+        private boolean isInactiveAndUnloaded() {
+            double mean = magnitudeSum / size;
+            double variance = Math.max(0, magnitudeSquareSum / size - mean * mean);
+            double meanLoad = (double) loadSum / size;
+            return variance <= inactivityVariance && meanLoad <= unloadedPressure;
+        }
+
+        private boolean passCooldown(long now) {
+            if (alerted && now - lastAlertAtNanos < cooldownNanos) {
+                return false;
+            }
+            alerted = true;
+            lastAlertAtNanos = now;
+            return true;
+        }
+    }
+}
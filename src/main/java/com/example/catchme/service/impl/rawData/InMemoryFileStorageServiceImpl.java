@@ -0,0 +1,72 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.exception.exceptions.S3DownloadFailException;
+import com.example.catchme.exception.exceptions.S3UploadFailException;
+import com.example.catchme.service.interfaces.rawData.FileStorageService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리에만 저장하는 FileStorageService (profile: storage-memory)
+ *
+ * ✔ 외부 저장소 없이 수집 경로 전체를 부하 테스트하기 위한 용도 (재시작 시 데이터 소멸)
+ * ✔ writer가 끝까지 성공한 경우에만 object를 등록 → S3와 동일한 동작
+ */
+@Service
+@Profile("storage-memory")
+public class InMemoryFileStorageServiceImpl implements FileStorageService {
+
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+
+    @Override
+    public String uploadStream(String objectKey, String contentType, StreamWriter writer) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try {
+            writer.writeTo(out);
+        } catch (IOException e) {
+            throw new S3UploadFailException("파일 저장에 실패했습니다.");
+        }
+
+        objects.put(objectKey, new StoredObject(contentType, out.toByteArray()));
+        return objectKey;
+    }
+
+    @Override
+    public InputStream openStream(String objectKey) {
+        StoredObject object = objects.get(objectKey);
+        if (object == null) {
+            throw new S3DownloadFailException("파일 조회에 실패했습니다.");
+        }
+        return new ByteArrayInputStream(object.getContent());
+    }
+
+    public Optional<StoredObject> find(String objectKey) {
+        return Optional.ofNullable(objects.get(objectKey));
+    }
+
+    public int size() {
+        return objects.size();
+    }
+
+    public void clear() {
+        objects.clear();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class StoredObject {
+        private final String contentType;
+        private final byte[] content;
+    }
+}
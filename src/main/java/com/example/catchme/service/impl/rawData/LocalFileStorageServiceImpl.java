@@ -0,0 +1,123 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.config.rawData.RawDataProperties;
+import com.example.catchme.exception.exceptions.S3DownloadFailException;
+import com.example.catchme.exception.exceptions.S3UploadFailException;
+import com.example.catchme.service.interfaces.rawData.FileStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * S3 대신 로컬 디스크에 저장하는 FileStorageService (profile: storage-local)
+ *
+ * ✔ {root}/{shard}/{objectKey} 구조, shard = 사용자 id 하위 8비트 (00 ~ ff)
+ * ✔ 임시 파일에 쓴 뒤 rename → 실패 시 object가 생성되지 않는 S3와 동일한 동작
+ * ✔ uploadStream은 64KB 버퍼로 임시 파일에 순차 기록 (writer가 만드는 바이트를 그대로 씀)
+ */
+@Slf4j
+@Service
+@Profile("storage-local")
+public class LocalFileStorageServiceImpl implements FileStorageService {
+
+    private static final Pattern USER_SEGMENT = Pattern.compile("(?:^|/)user-(\\d+)/");
+    private static final int SHARD_MASK = 0xff;
+
+    private final Path root;
+
+    public LocalFileStorageServiceImpl(RawDataProperties rawDataProperties) throws IOException {
+        this.root = Path.of(rawDataProperties.getStorage().getLocalDirectory()).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+        log.info("raw-data local storage: root={}", root);
+    }
+
+    @Override
+    public String uploadStream(String objectKey, String contentType, StreamWriter writer) {
+        Path target = resolve(objectKey);
+        Path temp = null;
+
+        try {
+            temp = createTempFile(target);
+
+            try (OutputStream out = new BufferedOutputStream(
+                    Files.newOutputStream(temp, StandardOpenOption.WRITE), 64 * 1024)) {
+                writer.writeTo(out);
+            }
+
+            publish(temp, target);
+            return objectKey;
+
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new S3UploadFailException("파일 저장에 실패했습니다.");
+        } catch (RuntimeException e) {
+            // 입력 데이터 오류 등은 그대로 전달 (임시 파일만 정리)
+            deleteQuietly(temp);
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream openStream(String objectKey) {
+        try {
+            return Files.newInputStream(resolve(objectKey), StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new S3DownloadFailException("파일 조회에 실패했습니다.");
+        }
+    }
+
+    /**
+     * objectKey → 로컬 경로 (root 밖으로 벗어나는 key는 거부)
+     */
+    Path resolve(String objectKey) {
+        Path path = root.resolve(shardOf(objectKey)).resolve(objectKey).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 objectKey 입니다.");
+        }
+        return path;
+    }
+
+    private static String shardOf(String objectKey) {
+        Matcher matcher = USER_SEGMENT.matcher(objectKey);
+        long hash = matcher.find()
+                ? Long.parseLong(matcher.group(1))
+                : objectKey.hashCode();
+        return String.format("%02x", hash & SHARD_MASK);
+    }
+
+    private static Path createTempFile(Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        return Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+    }
+
+    private static void publish(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException ignored) {
+            // 남은 임시 파일(.upload-*.tmp)은 조회 대상이 아니므로 무시
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.config.rawData.RawDataProperties;
+import com.example.catchme.model.RawDataAnalysis;
+import com.example.catchme.model.RawDataFile;
+import com.example.catchme.model.RawDataRollup;
+import com.example.catchme.model.RollupTier;
+import com.example.catchme.model.User;
+import com.example.catchme.repository.RawDataAnalysisRepository;
+import com.example.catchme.repository.RawDataFileRepository;
+import com.example.catchme.repository.RawDataRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 미분석 RawDataFile 점유(claim / lease) 관리
+ *
+ * ✔ 조건부 update로 점유 → 여러 노드가 같은 backlog를 나눠 처리해도 중복 분석 없음
+ * ✔ 점유는 leaseDuration 후 만료 → 처리 중 노드가 죽어도 다른 노드가 이어서 처리
+ * ✔ 결과 저장 + rollup 합산 + 분석 완료 표시는 claim을 아직 보유한 행만 한 트랜잭션에서 일괄 처리
+ *   (그 사이 다른 노드가 가져간 경우는 uk_raw_data_analyses_file 유니크 제약으로 한 번 더 방어)
+ */
+@Component
+@RequiredArgsConstructor
+class RawDataAnalysisLeases {
+
+    private final RawDataFileRepository rawDataFileRepository;
+    private final RawDataAnalysisRepository rawDataAnalysisRepository;
+    private final RawDataRollupRepository rawDataRollupRepository;
+    private final RawDataProperties rawDataProperties;
+
+    /**
+     * 분석 대기 파일을 최대 limit개 점유하고 점유에 성공한 파일 반환
+     */
+    @Transactional
+    public List<RawDataFile> claim(String claim, int limit) {
+        RawDataProperties.Analysis properties = rawDataProperties.getAnalysis();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1️⃣ 후보 조회 (인덱스 범위 스캔)
+        List<Long> candidateIds = rawDataFileRepository.findAnalysisCandidateIds(
+                properties.getMaxAttempts(), now, PageRequest.of(0, limit)
+        );
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 2️⃣ 조건부 점유 (다른 노드가 먼저 가져간 행은 건너뜀)
+        int claimed = rawDataFileRepository.claimForAnalysis(
+                candidateIds, claim, now.plus(properties.getLeaseDuration()), now
+        );
+        if (claimed == 0) {
+            return List.of();
+        }
+
+        return rawDataFileRepository.findAllByAnalysisClaim(claim);
+    }
+
+    /**
+     * 분석 결과 저장 + rollup 합산 + markAnalyzed 일괄 처리, 실제 반영된 파일 수 반환
+     * (모두 한 트랜잭션 → 파일 1개의 rollup은 정확히 1번만 반영)
+     */
+    @Transactional
+    public int complete(String claim, List<RawDataAnalysisResult> results) {
+        if (results.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = results.stream()
+                .map(result -> result.getAnalysis().getRawDataFile().getId())
+                .toList();
+        Set<Long> stillClaimed = new HashSet<>(rawDataFileRepository.findIdsStillClaimed(ids, claim));
+
+        List<RawDataAnalysisResult> owned = results.stream()
+                .filter(result -> stillClaimed.contains(result.getAnalysis().getRawDataFile().getId()))
+                .toList();
+        if (owned.isEmpty()) {
+            return 0;
+        }
+
+        rawDataAnalysisRepository.saveAll(owned.stream().map(RawDataAnalysisResult::getAnalysis).toList());
+
+        // 샘플 시간 범위가 없는 (컬럼 추가 전) 파일은 분석 결과로 보정 → 기간 조회 대상에 포함
+        for (RawDataAnalysisResult result : owned) {
+            RawDataAnalysis analysis = result.getAnalysis();
+            RawDataFile file = analysis.getRawDataFile();
+            if (file.getFirstSampleAt() == null && analysis.getFirstSampleAtMillis() != null) {
+                rawDataFileRepository.fillSampleBounds(
+                        file.getId(),
+                        (int) Math.min(analysis.getSampleCount(), Integer.MAX_VALUE),
+                        analysis.getFirstSampleAtMillis(),
+                        analysis.getLastSampleAtMillis()
+                );
+            }
+        }
+
+        mergeRollups(owned);
+        return rawDataFileRepository.markAnalyzed(List.copyOf(stillClaimed), claim);
+    }
+
+    /**
+     * 파일별 rollup 버킷을 사용자 / tier 단위로 기존 버킷에 합산
+     * → 잠금 순서를 고정(사용자 id → tier → 구간 시작 순)해서 노드 간 교착 방지
+     */
+    private void mergeRollups(List<RawDataAnalysisResult> results) {
+        Map<Long, List<RawDataAnalysisResult>> resultsByUser = new TreeMap<>();
+        for (RawDataAnalysisResult result : results) {
+            if (result.getRollups() != null) {
+                Long userId = result.getAnalysis().getRawDataFile().getUser().getId();
+                resultsByUser.computeIfAbsent(userId, id -> new ArrayList<>()).add(result);
+            }
+        }
+
+        for (Map.Entry<Long, List<RawDataAnalysisResult>> entry : resultsByUser.entrySet()) {
+            Long userId = entry.getKey();
+            List<RawDataAnalysisResult> userResults = entry.getValue();
+            User user = userResults.get(0).getAnalysis().getRawDataFile().getUser();
+
+            for (RollupTier tier : RollupTier.values()) {
+                // 1️⃣ 이번 배치의 파일들이 건드리는 구간만 잠금 조회 (파일 사이의 빈 구간은 잠그지 않음)
+                List<long[]> ranges = lockRanges(userResults, tier);
+                if (ranges.isEmpty()) {
+                    continue;
+                }
+
+                Map<Long, RawDataRollup> rollups = new HashMap<>();
+                for (long[] range : ranges) {
+                    for (RawDataRollup rollup : rawDataRollupRepository.findForUpdate(userId, tier, range[0], range[1])) {
+                        rollups.put(rollup.getBucketStart(), rollup);
+                    }
+                }
+
+                // 2️⃣ 합산 (없는 버킷은 새로 생성, 동시 생성은 uk_raw_data_rollups_user_tier_bucket으로 차단)
+                List<RawDataRollup> created = new ArrayList<>();
+                for (RawDataAnalysisResult result : userResults) {
+                    for (RawDataRollupAccumulator.Bucket bucket : result.getRollups().getBuckets().get(tier).values()) {
+                        RawDataRollup rollup = rollups.get(bucket.start);
+                        if (rollup != null) {
+                            rollup.merge(bucket.sampleCount, bucket.min, bucket.max, bucket.sum);
+                            continue;
+                        }
+                        rollup = RawDataRollup.create(
+                                user, tier, bucket.start, bucket.sampleCount, bucket.min, bucket.max, bucket.sum
+                        );
+                        rollups.put(bucket.start, rollup);
+                        created.add(rollup);
+                    }
+                }
+                rawDataRollupRepository.saveAll(created);
+            }
+        }
+    }
+
+    /**
+     * 파일마다 [첫 버킷, 마지막 버킷] 구간을 만들고, 겹치는 구간은 합쳐서 시작 순으로 반환
+     */
+    private static List<long[]> lockRanges(List<RawDataAnalysisResult> results, RollupTier tier) {
+        List<long[]> ranges = new ArrayList<>(results.size());
+        for (RawDataAnalysisResult result : results) {
+            Set<Long> bucketStarts = result.getRollups().getBuckets().get(tier).keySet();
+            if (!bucketStarts.isEmpty()) {
+                ranges.add(new long[]{Collections.min(bucketStarts), Collections.max(bucketStarts)});
+            }
+        }
+        ranges.sort(Comparator.comparingLong(range -> range[0]));
+
+        List<long[]> merged = new ArrayList<>(ranges.size());
+        for (long[] range : ranges) {
+            long[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && range[0] <= last[1]) {
+                last[1] = Math.max(last[1], range[1]);
+            } else {
+                merged.add(range);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 분석에 실패한 파일의 점유 해제 (다음 주기에 다시 시도)
+     */
+    @Transactional
+    public void release(String claim, List<Long> ids) {
+        if (!ids.isEmpty()) {
+            rawDataFileRepository.releaseAnalysisClaim(ids, claim);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.model.RawDataAnalysis;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 파일 1개의 분석 결과 + rollup 집계 (rollup 비활성화 시 null)
+ */
+@Getter
+@AllArgsConstructor
+class RawDataAnalysisResult {
+
+    private final RawDataAnalysis analysis;
+    private final RawDataRollupAccumulator rollups;
+}
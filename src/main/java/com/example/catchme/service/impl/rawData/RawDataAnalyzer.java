@@ -0,0 +1,176 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.config.rawData.RawDataProperties;
+import com.example.catchme.model.RawDataFile;
+import com.example.catchme.service.interfaces.rawData.FileStorageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 미분석 RawDataFile(analyzed = false)을 주기적으로 분석하는 배치 작업
+ *
+ * 처리 순서 (batchSize 단위로 backlog가 빌 때까지 반복):
+ * 1️⃣ RawDataAnalysisLeases로 파일 점유 (claim / lease → 여러 노드 간 중복 없음)
+ * 2️⃣ parallelism개 워커가 FileStorageService에서 스트리밍으로 읽고 디코딩하며 특징값 / rollup 계산
+ * 3️⃣ 결과 저장 + rollup 합산 + markAnalyzed를 한 트랜잭션에서 일괄 처리, 실패한 파일은 점유 해제
+ *
+ * 메트릭:
+ * - rawdata.analysis.file     : 파일 1개 내려받기 + 분석 소요 시간
+ * - rawdata.analysis.analyzed / failed : 분석 완료 / 실패 파일 수
+ */
+@Slf4j
+@Component
+class RawDataAnalyzer {
+
+    private final RawDataAnalysisLeases leases;
+    private final FileStorageService fileStorageService;
+    private final SensorSampleEncoderFactory encoderFactory;
+    private final RawDataProperties.Analysis properties;
+    private final boolean rollupEnabled;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer fileTimer;
+    private final Counter analyzedCounter;
+    private final Counter failedCounter;
+
+    RawDataAnalyzer(
+            RawDataAnalysisLeases leases,
+            FileStorageService fileStorageService,
+            SensorSampleEncoderFactory encoderFactory,
+            RawDataProperties rawDataProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.leases = leases;
+        this.fileStorageService = fileStorageService;
+        this.encoderFactory = encoderFactory;
+        this.properties = rawDataProperties.getAnalysis();
+        this.rollupEnabled = rawDataProperties.getRollup().isEnabled();
+
+        // 한 번에 batchSize개만 넣으므로 큐는 제한하지 않고 동시 실행 수만 제한
+        int parallelism = Math.max(1, properties.getParallelism());
+        this.executor = new ThreadPoolExecutor(
+                parallelism,
+                parallelism,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("raw-data-analysis-")
+        );
+
+        this.fileTimer = Timer.builder("rawdata.analysis.file")
+                .description("파일 1개 내려받기 + 분석 소요 시간")
+                .register(meterRegistry);
+        this.analyzedCounter = Counter.builder("rawdata.analysis.analyzed")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("rawdata.analysis.failed")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${raw-data.analysis.interval:PT30S}")
+    void analyzePending() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        int batchSize = Math.max(1, properties.getBatchSize());
+        while (!executor.isShutdown() && analyzeBatch(batchSize) == batchSize) {
+            // 가득 찬 배치였다면 backlog가 남아 있을 수 있으므로 바로 다음 배치 진행
+        }
+    }
+
+    /**
+     * 파일을 최대 batchSize개 점유해서 분석하고 점유한 파일 수 반환
+     */
+    private int analyzeBatch(int batchSize) {
+        String claim = UUID.randomUUID().toString();
+        List<RawDataFile> files = leases.claim(claim, batchSize);
+        if (files.isEmpty()) {
+            return 0;
+        }
+
+        // 1️⃣ 병렬 분석
+        List<CompletableFuture<RawDataAnalysisResult>> futures = new ArrayList<>(files.size());
+        for (RawDataFile file : files) {
+            futures.add(CompletableFuture.supplyAsync(() -> analyze(file), executor));
+        }
+
+        // 2️⃣ 결과 수집
+        List<RawDataAnalysisResult> results = new ArrayList<>(files.size());
+        List<Long> failedIds = new ArrayList<>();
+        for (int i = 0; i < files.size(); i++) {
+            RawDataFile file = files.get(i);
+            try {
+                results.add(futures.get(i).join());
+            } catch (RuntimeException e) {
+                failedIds.add(file.getId());
+                failedCounter.increment();
+                log.warn("raw-data analysis failed: fileId={}, objectKey={}, attempt={}",
+                        file.getId(), file.getS3ObjectKey(), file.getAnalysisAttempts(), e);
+            }
+        }
+
+        // 3️⃣ 결과 저장 + rollup 합산 + 분석 완료 일괄 처리 / 실패 파일 점유 해제
+        try {
+            int completed = leases.complete(claim, results);
+            analyzedCounter.increment(completed);
+            if (completed < results.size()) {
+                log.warn("raw-data analysis lease lost: claimed={}, completed={}", results.size(), completed);
+            }
+        } catch (RuntimeException e) {
+            // 점유는 lease 만료 후 다시 가져가짐
+            log.error("raw-data analysis result save failed: claim={}, files={}", claim, results.size(), e);
+        }
+        leases.release(claim, failedIds);
+
+        return files.size();
+    }
+
+    private RawDataAnalysisResult analyze(RawDataFile file) {
+        long startedAt = System.nanoTime();
+
+        SensorSampleDecoder decoder = encoderFactory.createDecoder(file.getFormat());
+        RawDataFeatureExtractor extractor = new RawDataFeatureExtractor(properties);
+        RawDataRollupAccumulator rollups = rollupEnabled ? new RawDataRollupAccumulator() : null;
+
+        // 파일을 한 번만 읽으면서 특징값 / rollup을 함께 계산
+        SensorSampleDecoder.SampleVisitor visitor = rollups == null
+                ? extractor
+                : (timestamp, p1, p2, p3, p4, accX, accY, accZ) -> {
+                    extractor.accept(timestamp, p1, p2, p3, p4, accX, accY, accZ);
+                    rollups.accept(timestamp, p1, p2, p3, p4, accX, accY, accZ);
+                };
+
+        try (InputStream in = fileStorageService.openStream(file.getS3ObjectKey())) {
+            decoder.decode(in, visitor);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            fileTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        return new RawDataAnalysisResult(extractor.toAnalysis(file), rollups);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 진행 중인 분석은 버리고 점유는 lease 만료 후 다른 노드 / 다음 시작 시 처리
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.dto.RawSensorDataRequest;
+import com.example.catchme.model.RawDataFormat;
+import com.example.catchme.model.User;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 파일 1개(S3 object 1개, 메타데이터 1행)로 저장될 샘플 묶음
+ *
+ * object key / 저장 형식은 접수 시점에 확정되어
+ * 비동기 저장 전에도 클라이언트에게 돌려줄 수 있다.
+ */
+@Getter
+class RawDataBatch {
+
+    private final User user;
+    private final String objectKey;
+    private final RawDataFormat format;
+    private final List<RawSensorDataRequest> samples;
+
+    /** 이 배치의 샘플이 기록된 WAL 레코드 id (저장 완료 후 release) */
+    private final List<Long> walRecords;
+
+    /** 접수 시각 (System.nanoTime, 접수 → 저장 완료 지연 측정용) */
+    private final long acceptedAtNanos;
+
+    RawDataBatch(
+            User user,
+            String objectKey,
+            RawDataFormat format,
+            List<RawSensorDataRequest> samples,
+            List<Long> walRecords
+    ) {
+        this.user = user;
+        this.objectKey = objectKey;
+        this.format = format;
+        this.samples = samples;
+        this.walRecords = walRecords;
+        this.acceptedAtNanos = System.nanoTime();
+    }
+}
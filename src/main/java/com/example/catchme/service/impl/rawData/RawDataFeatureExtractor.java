@@ -0,0 +1,131 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.config.rawData.RawDataProperties;
+import com.example.catchme.model.RawDataAnalysis;
+import com.example.catchme.model.RawDataFile;
+
+/**
+ * 디코딩된 샘플을 한 번만 훑으면서 파일 단위 특징값을 누적
+ *
+ * ✔ 충격: 가속도 크기가 impactThreshold 이상으로 올라간 횟수 (연속 구간은 1회) + 최대값
+ * ✔ 압력 분포: p1~p4 합계 → 평균
+ * ✔ 무동작: 연속 샘플 간 가속도 크기 변화가 stillnessTolerance 이하인 구간 (minInactivity 이상만 기록)
+ *
+ * 파일 1개당 1개 인스턴스를 사용한다.
+ */
+class RawDataFeatureExtractor implements SensorSampleDecoder.SampleVisitor {
+
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final double impactThreshold;
+    private final double stillnessTolerance;
+    private final long minInactivityMillis;
+
+    private long sampleCount;
+    private long firstTimestamp = NONE;
+    private long lastTimestamp = NONE;
+
+    // 충격
+    private boolean inImpact;
+    private int impactCount;
+    private double peakMagnitude;
+
+    // 압력
+    private final long[] pressureSums = new long[4];
+
+    // 무동작
+    private double previousMagnitude = Double.NaN;
+    private long stillStartedAt = NONE;
+    private long stillLastAt;
+    private int inactivitySpanCount;
+    private long longestInactivityMillis;
+    private long totalInactivityMillis;
+
+    RawDataFeatureExtractor(RawDataProperties.Analysis properties) {
+        this.impactThreshold = properties.getImpactThreshold();
+        this.stillnessTolerance = properties.getStillnessTolerance();
+        this.minInactivityMillis = properties.getMinInactivity().toMillis();
+    }
+
+    @Override
+    public void accept(
+            long timestampMillis,
+            int pressure1,
+            int pressure2,
+            int pressure3,
+            int pressure4,
+            double accX,
+            double accY,
+            double accZ
+    ) {
+        double magnitude = Math.sqrt(accX * accX + accY * accY + accZ * accZ);
+
+        // 1️⃣ 충격
+        if (magnitude >= impactThreshold) {
+            if (!inImpact) {
+                impactCount++;
+                inImpact = true;
+            }
+        } else {
+            inImpact = false;
+        }
+        if (magnitude > peakMagnitude) {
+            peakMagnitude = magnitude;
+        }
+
+        // 2️⃣ 압력 분포
+        pressureSums[0] += pressure1;
+        pressureSums[1] += pressure2;
+        pressureSums[2] += pressure3;
+        pressureSums[3] += pressure4;
+
+        // 3️⃣ 무동작 구간 (직전 샘플 대비 변화량 기준)
+        if (!Double.isNaN(previousMagnitude) && Math.abs(magnitude - previousMagnitude) <= stillnessTolerance) {
+            if (stillStartedAt == NONE) {
+                stillStartedAt = lastTimestamp;
+            }
+            stillLastAt = timestampMillis;
+        } else {
+            closeInactivitySpan();
+        }
+        previousMagnitude = magnitude;
+
+        if (firstTimestamp == NONE) {
+            firstTimestamp = timestampMillis;
+        }
+        lastTimestamp = timestampMillis;
+        sampleCount++;
+    }
+
+    RawDataAnalysis toAnalysis(RawDataFile file) {
+        closeInactivitySpan();
+
+        RawDataAnalysis analysis = RawDataAnalysis.create(
+                file,
+                sampleCount,
+                firstTimestamp == NONE ? null : firstTimestamp,
+                lastTimestamp == NONE ? null : lastTimestamp
+        );
+        analysis.recordImpacts(impactCount, peakMagnitude);
+        analysis.recordMeanPressures(mean(0), mean(1), mean(2), mean(3));
+        analysis.recordInactivity(inactivitySpanCount, longestInactivityMillis, totalInactivityMillis);
+        return analysis;
+    }
+
+    private void closeInactivitySpan() {
+        if (stillStartedAt == NONE) {
+            return;
+        }
+        long duration = stillLastAt - stillStartedAt;
+        if (duration >= minInactivityMillis) {
+            inactivitySpanCount++;
+            totalInactivityMillis += duration;
+            longestInactivityMillis = Math.max(longestInactivityMillis, duration);
+        }
+        stillStartedAt = NONE;
+    }
+
+    private double mean(int sensor) {
+        return sampleCount == 0 ? 0 : (double) pressureSums[sensor] / sampleCount;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.dto.RawSensorDataRequest;
+import com.example.catchme.model.RawDataFormat;
+import com.example.catchme.model.User;
+import com.example.catchme.repository.RawDataFileRepository;
+import com.example.catchme.service.interfaces.rawData.FileStorageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 샘플 묶음을 파일 1개로 인코딩 → 업로드 → 메타데이터 저장
+ *
+ * 동기 업로드와 비동기 수집 큐(RawDataIngestionQueue)가 공통으로 사용한다.
+ * 업로드 동안 트랜잭션을 잡지 않고, 메타데이터 저장만 짧은 트랜잭션으로 수행한다.
+ */
+@Component
+@RequiredArgsConstructor
+class RawDataFileWriter {
+
+    private static final DateTimeFormatter OBJECT_KEY_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS");
+
+    private final FileStorageService fileStorageService;
+    private final RawDataFileRepository rawDataFileRepository;
+    private final SensorSampleEncoderFactory encoderFactory;
+
+    /**
+     * 현재 저장 형식과 object key를 확정하여 배치 구성
+     */
+    RawDataBatch newBatch(User user, List<RawSensorDataRequest> samples) {
+        return newBatch(user, samples, List.of());
+    }
+
+    /**
+     * WAL에 기록된 샘플로 배치 구성 (저장 완료 후 walRecords를 release)
+     */
+    RawDataBatch newBatch(User user, List<RawSensorDataRequest> samples, List<Long> walRecords) {
+        RawDataFormat format = encoderFactory.currentFormat();
+        return new RawDataBatch(user, buildObjectKey(user, format), format, samples, walRecords);
+    }
+
+    /**
+     * 배치를 S3 object 1개 + 메타데이터 1행으로 저장하고 objectKey 반환
+     */
+    String write(RawDataBatch batch) {
+
+        SensorSampleBounds bounds = new SensorSampleBounds(encoderFactory.timestampZone());
+
+        // 1️⃣ 인코딩과 동시에 업로드 (로컬 임시 파일 없음)
+        String savedKey = fileStorageService.uploadStream(
+                batch.getObjectKey(),
+                batch.getFormat().getContentType(),
+                out -> {
+                    SensorSampleEncoder encoder = encoderFactory.create(batch.getFormat(), out);
+                    encoder.start();
+                    for (RawSensorDataRequest sample : batch.getSamples()) {
+                        encoder.write(sample);
+                        bounds.add(sample);
+                    }
+                    encoder.finish();
+                }
+        );
+
+        // 2️⃣ 메타데이터 DB 저장 (저장 형식 + 샘플 수 / 시간 범위 포함)
+        rawDataFileRepository.save(bounds.toFile(batch.getUser(), savedKey, batch.getFormat()));
+
+        return savedKey;
+    }
+
+    String buildObjectKey(User user, RawDataFormat format) {
+        // 예: raw-data/user-1/20251226_193000_123-1a2b3c4d.csv
+        // 같은 초(또는 밀리초)에 여러 파일이 생겨도 덮어쓰지 않도록 임의 접미사 추가
+        String now = LocalDateTime.now().format(OBJECT_KEY_TIME_FORMAT);
+        String suffix = Integer.toHexString(ThreadLocalRandom.current().nextInt() | 0x10000000);
+        return "raw-data/user-" + user.getId() + "/" + now + "-" + suffix + format.getFileExtension();
+    }
+}
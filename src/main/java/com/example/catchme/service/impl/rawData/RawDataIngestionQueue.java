@@ -0,0 +1,165 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.config.rawData.RawDataProperties;
+import com.example.catchme.exception.exceptions.RawDataIngestionBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.DateTimeException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 센서 데이터 비동기 저장(write-behind) 큐
+ *
+ * ✔ 요청 스레드는 배치를 큐에 넣고 바로 응답 (S3 / DB 대기 없음)
+ * ✔ 고정 크기 워커 풀이 RawDataFileWriter로 업로드 + 메타데이터 저장
+ * ✔ 큐가 가득 차면 RawDataIngestionBusyException(503)으로 백프레셔
+ * ✔ S3 / DB 장애만 max-attempts까지 재시도, 데이터 오류(IllegalArgumentException 등)는 즉시 실패 처리
+ *
+ * 메트릭:
+ * - rawdata.ingestion.queue.depth : 대기 중인 배치 수
+ * - rawdata.ingestion.flush       : 배치 1건 업로드 + 저장 소요 시간
+ * - rawdata.ingestion.lag         : 접수 → 저장 완료까지 지연
+ * - rawdata.ingestion.rejected / failed : 거절 / 최종 실패 건수
+ */
+@Slf4j
+@Component
+class RawDataIngestionQueue {
+
+    private final RawDataFileWriter rawDataFileWriter;
+    private final RawDataWriteAheadLog writeAheadLog;
+    private final RawDataProperties.Ingestion properties;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer flushTimer;
+    private final Timer lagTimer;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    RawDataIngestionQueue(
+            RawDataFileWriter rawDataFileWriter,
+            RawDataWriteAheadLog writeAheadLog,
+            RawDataProperties rawDataProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.rawDataFileWriter = rawDataFileWriter;
+        this.writeAheadLog = writeAheadLog;
+        this.properties = rawDataProperties.getIngestion();
+
+        int workers = properties.getWorkers();
+        this.executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("raw-data-flush-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("rawdata.ingestion.queue.depth", executor, e -> e.getQueue().size())
+                .description("저장 대기 중인 센서 데이터 배치 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("rawdata.ingestion.flush")
+                .description("배치 1건 업로드 + 메타데이터 저장 소요 시간")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("rawdata.ingestion.lag")
+                .description("배치 접수부터 저장 완료까지 지연")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("rawdata.ingestion.rejected")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("rawdata.ingestion.failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 배치를 저장 큐에 등록 (큐가 가득 차면 즉시 거절)
+     */
+    void submit(RawDataBatch batch) {
+        try {
+            executor.execute(() -> flush(batch));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new RawDataIngestionBusyException("센서 데이터 처리량이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private void flush(RawDataBatch batch) {
+        for (int attempt = 1; ; attempt++) {
+            long startedAt = System.nanoTime();
+            try {
+                rawDataFileWriter.write(batch);
+                // RawDataFile 저장이 끝났으므로 WAL 레코드 해제
+                writeAheadLog.release(batch.getWalRecords());
+
+                long finishedAt = System.nanoTime();
+                flushTimer.record(finishedAt - startedAt, TimeUnit.NANOSECONDS);
+                lagTimer.record(finishedAt - batch.getAcceptedAtNanos(), TimeUnit.NANOSECONDS);
+                return;
+
+            } catch (RuntimeException e) {
+                if (isPermanentFailure(e)) {
+                    // 재시도해도 같은 결과 → WAL 레코드까지 해제해 재시작 때마다 반복 실패하지 않도록 함
+                    writeAheadLog.release(batch.getWalRecords());
+                    failedCounter.increment();
+                    log.error("raw-data flush rejected (not retried): objectKey={}, samples={}",
+                            batch.getObjectKey(), batch.getSamples().size(), e);
+                    return;
+                }
+                if (attempt >= properties.getMaxAttempts()) {
+                    // WAL 레코드는 남겨 두어 다음 시작 시 재처리
+                    failedCounter.increment();
+                    log.error("raw-data flush failed: objectKey={}, samples={}, attempts={}",
+                            batch.getObjectKey(), batch.getSamples().size(), attempt, e);
+                    return;
+                }
+
+                log.warn("raw-data flush retry: objectKey={}, attempt={}, cause={}",
+                        batch.getObjectKey(), attempt, e.getMessage());
+                if (!sleep(properties.getRetryBackoff().toMillis() * attempt)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 데이터 자체의 문제로 인한 실패 여부 (S3 / DB 장애와 달리 재시도 대상 아님)
+     */
+    static boolean isPermanentFailure(RuntimeException e) {
+        return e instanceof IllegalArgumentException
+                || e instanceof DateTimeException
+                || e instanceof ArithmeticException;
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 종료 시 이미 접수된 배치는 가능한 한 모두 저장
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("raw-data flush queue did not drain before shutdown: pending={}", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.model.RawDataRollup;
+import com.example.catchme.model.RollupTier;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 파일 1개의 샘플을 tier(1초 / 1분 / 1시간)별 버킷으로 집계
+ *
+ * ✔ 샘플은 대부분 시간순이므로 tier마다 직전 버킷을 재사용 → 샘플당 Map 조회 / 객체 생성 없음
+ * ✔ 버킷 객체는 버킷 단위로만 생성 (파일 1개 = 1분 윈도우면 1초 버킷 60개 + 1분 / 1시간 버킷 1~2개)
+ *
+ * 파일 1개당 1개 인스턴스를 사용한다.
+ */
+class RawDataRollupAccumulator implements SensorSampleDecoder.SampleVisitor {
+
+    private static final RollupTier[] TIERS = RollupTier.values();
+
+    private final Map<RollupTier, Map<Long, Bucket>> buckets = new EnumMap<>(RollupTier.class);
+    private final Bucket[] current = new Bucket[TIERS.length];
+    private final double[] values = new double[RawDataRollup.CHANNELS];
+
+    RawDataRollupAccumulator() {
+        for (RollupTier tier : TIERS) {
+            buckets.put(tier, new HashMap<>());
+        }
+    }
+
+    @Override
+    public void accept(
+            long timestampMillis,
+            int pressure1,
+            int pressure2,
+            int pressure3,
+            int pressure4,
+            double accX,
+            double accY,
+            double accZ
+    ) {
+        values[0] = pressure1;
+        values[1] = pressure2;
+        values[2] = pressure3;
+        values[3] = pressure4;
+        values[4] = accX;
+        values[5] = accY;
+        values[6] = accZ;
+
+        for (int i = 0; i < TIERS.length; i++) {
+            long bucketStart = TIERS[i].bucketStart(timestampMillis);
+
+            Bucket bucket = current[i];
+            if (bucket == null || bucket.start != bucketStart) {
+                bucket = buckets.get(TIERS[i]).computeIfAbsent(bucketStart, Bucket::new);
+                current[i] = bucket;
+            }
+            bucket.add(values);
+        }
+    }
+
+    /** tier → (버킷 시작 시각 → 버킷) */
+    Map<RollupTier, Map<Long, Bucket>> getBuckets() {
+        return buckets;
+    }
+
+    /**
+     * 구간 1개의 채널별 집계 (채널 순서는 RawDataRollup.CHANNELS 기준)
+     */
+    static class Bucket {
+
+        final long start;
+        long sampleCount;
+        final double[] min = new double[RawDataRollup.CHANNELS];
+        final double[] max = new double[RawDataRollup.CHANNELS];
+        final double[] sum = new double[RawDataRollup.CHANNELS];
+
+        Bucket(long start) {
+            this.start = start;
+            Arrays.fill(min, Double.POSITIVE_INFINITY);
+            Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        }
+
+        void add(double[] values) {
+            sampleCount++;
+            for (int channel = 0; channel < values.length; channel++) {
+                double value = values[channel];
+                if (value < min[channel]) {
+                    min[channel] = value;
+                }
+                if (value > max[channel]) {
+                    max[channel] = value;
+                }
+                sum[channel] += value;
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.config.rawData.RawDataProperties;
+import com.example.catchme.model.RollupTier;
+import com.example.catchme.repository.RawDataRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 보관 기간이 지난 1초 / 1분 rollup 버킷 정리 (1시간 버킷은 계속 보관)
+ *
+ * ✔ idx_raw_data_rollups_tier_bucket 범위 스캔으로 오래된 버킷만 조회
+ * ✔ DELETE_BATCH_SIZE개씩 짧은 트랜잭션으로 나눠 삭제 → 한 번에 대량 행을 잠그지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RawDataRollupCleaner {
+
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final RawDataRollupRepository rawDataRollupRepository;
+    private final RawDataProperties rawDataProperties;
+
+    @Scheduled(cron = "0 10 * * * *")
+    public void deleteExpired() {
+        RawDataProperties.Rollup properties = rawDataProperties.getRollup();
+        long now = System.currentTimeMillis();
+
+        int seconds = deleteOlderThan(RollupTier.SECOND, now - properties.getSecondTierRetention().toMillis());
+        int minutes = deleteOlderThan(RollupTier.MINUTE, now - properties.getMinuteTierRetention().toMillis());
+        if (seconds > 0 || minutes > 0) {
+            log.info("expired raw-data rollups deleted: second={}, minute={}", seconds, minutes);
+        }
+    }
+
+    private int deleteOlderThan(RollupTier tier, long before) {
+        int deleted = 0;
+        while (true) {
+            List<Long> ids = rawDataRollupRepository.findIdsOlderThan(
+                    tier, before, PageRequest.of(0, DELETE_BATCH_SIZE)
+            );
+            if (ids.isEmpty()) {
+                return deleted;
+            }
+            deleted += rawDataRollupRepository.deleteByIds(ids);
+            if (ids.size() < DELETE_BATCH_SIZE) {
+                return deleted;
+            }
+        }
+    }
+}
@@ -1,91 +1,466 @@
 package com.example.catchme.service.impl.rawData;
 
+import com.example.catchme.config.rawData.RawDataProperties;
+import com.example.catchme.dto.RawDataAcceptResponse;
+import com.example.catchme.dto.RawDataBatchUploadResponse;
+import com.example.catchme.dto.RawDataFilePageResponse;
+import com.example.catchme.dto.RawDataFileResponse;
+import com.example.catchme.dto.RawDataChannelSummary;
+import com.example.catchme.dto.RawDataRollupPointResponse;
+import com.example.catchme.dto.RawDataRollupResponse;
 import com.example.catchme.dto.RawDataUploadResponse;
+import com.example.catchme.dto.RawSensorDataBatchRequest;
 import com.example.catchme.dto.RawSensorDataRequest;
-import com.example.catchme.exception.exceptions.IllegalCsvCreateException;
-import com.example.catchme.exception.exceptions.LocalFileDeleteFailException;
-import com.example.catchme.exception.exceptions.UserNotFoundException;
-import com.example.catchme.model.RawDataFile;
+import com.example.catchme.exception.exceptions.PermissionDeniedException;
+import com.example.catchme.exception.exceptions.RawDataIngestionBusyException;
+import com.example.catchme.model.RawDataFormat;
+import com.example.catchme.model.RawDataRollup;
+import com.example.catchme.model.Role;
+import com.example.catchme.model.RollupChannelStats;
+import com.example.catchme.model.RollupTier;
 import com.example.catchme.model.User;
 import com.example.catchme.repository.RawDataFileRepository;
-import com.example.catchme.repository.UserRepository;
+import com.example.catchme.repository.RawDataRollupRepository;
+import com.example.catchme.repository.UserLinkRepository;
 import com.example.catchme.service.interfaces.rawData.FileStorageService;
 import com.example.catchme.service.interfaces.rawData.RawDataService;
+import com.example.catchme.service.interfaces.rawData.SensorSampleListener;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.exc.JacksonIOException;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
 
-import java.io.FileWriter;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.InputStream;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 센서 원시 데이터 업로드
+ *
+ * S3 업로드 동안 DB 커넥션을 잡지 않도록 클래스 단위 트랜잭션을 두지 않고,
+ * 메타데이터 저장(RawDataFileRepository.save)만 짧은 트랜잭션으로 수행한다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class RawDataServiceImpl implements RawDataService {
 
     private final FileStorageService fileStorageService;
     private final RawDataFileRepository rawDataFileRepository;
+    private final UserLinkRepository userLinkRepository;
+    private final RawDataRollupRepository rawDataRollupRepository;
+    private final RawDataProperties rawDataProperties;
+    private final SensorSampleEncoderFactory encoderFactory;
+    private final RawDataFileWriter rawDataFileWriter;
+    private final RawDataIngestionQueue rawDataIngestionQueue;
+    private final RawDataWindowBuffer rawDataWindowBuffer;
+    private final RawDataWriteAheadLog writeAheadLog;
+    private final ObjectMapper objectMapper;
+    private final List<SensorSampleListener> sampleListeners;
 
     @Override
     public RawDataUploadResponse uploadRawDataAsCsv(User user, RawSensorDataRequest request) {
+        validateSample(request, encoderFactory.timestampZone(), "1번째 샘플");
 
-        // 2️⃣ CSV 생성
-        Path csvPath = createCsv(user, request);
+        String savedKey = rawDataFileWriter.write(rawDataFileWriter.newBatch(user, List.of(request)));
+        notifyListeners(user, List.of(request));
+        return new RawDataUploadResponse(savedKey);
+    }
+
+    @Override
+    public RawDataBatchUploadResponse uploadRawDataBatchAsCsv(User user, RawSensorDataBatchRequest request) {
+        List<RawSensorDataRequest> samples = validateBatch(request);
+
+        long startedAt = System.nanoTime();
+        String savedKey = rawDataFileWriter.write(rawDataFileWriter.newBatch(user, samples));
+        notifyListeners(user, samples);
+        logThroughput("batch", user, samples.size(), startedAt);
 
-        // 3️⃣ S3 object key 생성
-        String objectKey = buildObjectKey(user);
+        return new RawDataBatchUploadResponse(savedKey, samples.size());
+    }
 
-        // 4️⃣ S3 업로드
-        String savedKey = fileStorageService.uploadCsv(csvPath, objectKey);
+    /**
+     * 배치를 저장 큐에 접수만 하고 바로 반환 (S3 업로드 / 메타데이터 저장은 워커가 수행)
+     */
+    @Override
+    public RawDataBatchUploadResponse acceptRawDataBatch(User user, RawSensorDataBatchRequest request) {
+        List<RawSensorDataRequest> samples = validateBatch(request);
 
-        // 5️⃣ 메타데이터 DB 저장
-        RawDataFile rawDataFile = RawDataFile.create(user, savedKey);
-        rawDataFileRepository.save(rawDataFile);
+        // 응답 전에 로컬 WAL에 기록 (노드 장애 시 재시작 후 재처리)
+        long walRecord = writeAheadLog.append(user.getId(), samples);
+        RawDataBatch batch = rawDataFileWriter.newBatch(user, samples, List.of(walRecord));
 
-        // 6️⃣ 로컬 CSV 삭제
         try {
-            Files.deleteIfExists(csvPath);
-        } catch (Exception e) {
-            throw new LocalFileDeleteFailException("업로드 후 로컬 CSV 삭제에 실패했습니다.");
+            rawDataIngestionQueue.submit(batch);
+        } catch (RawDataIngestionBusyException e) {
+            writeAheadLog.release(batch.getWalRecords());
+            throw e;
         }
 
-        return new RawDataUploadResponse(savedKey);
+        // 접수된 샘플 실시간 분석 (저장 완료를 기다리지 않음)
+        notifyListeners(user, samples);
+
+        return new RawDataBatchUploadResponse(batch.getObjectKey(), samples.size());
     }
 
-    private Path createCsv(User user, RawSensorDataRequest request) {
+    /**
+     * 샘플을 사용자 윈도우에 모아두고 바로 반환 (윈도우 봉인 시 파일 1개로 비동기 저장)
+     */
+    @Override
+    public RawDataAcceptResponse appendToWindow(User user, RawSensorDataBatchRequest request) {
+        List<RawSensorDataRequest> samples = validateBatch(request);
+
+        // 응답 전에 로컬 WAL에 기록 (노드 장애 시 재시작 후 재처리)
+        long walRecord = writeAheadLog.append(user.getId(), samples);
+
         try {
-            Path tempFile = Files.createTempFile(
-                    "raw-data-user-" + user.getId() + "-",
-                    ".csv"
+            rawDataWindowBuffer.append(user, samples, List.of(walRecord));
+        } catch (RawDataIngestionBusyException e) {
+            writeAheadLog.release(List.of(walRecord));
+            throw e;
+        }
+
+        // 접수된 샘플 실시간 분석 (윈도우 봉인을 기다리지 않음)
+        notifyListeners(user, samples);
+
+        return new RawDataAcceptResponse(samples.size());
+    }
+
+    /**
+     * NDJSON 본문을 한 줄씩 읽으면서 저장 형식으로 인코딩해 바로 S3 multipart upload로 흘려보냄
+     *
+     * ✔ 로컬 임시 파일 없음
+     * ✔ 요청 전체를 메모리에 올리지 않음 (파트 크기 이내)
+     * ✔ 세션이 길어질 수 있으므로 업로드 동안 트랜잭션(DB 커넥션)을 잡지 않음
+     */
+    @Override
+    public RawDataBatchUploadResponse uploadRawDataStreamAsCsv(User user, InputStream body) {
+        long startedAt = System.nanoTime();
+        AtomicInteger sampleCount = new AtomicInteger();
+
+        // 1️⃣ 저장 형식 / S3 object key 결정
+        RawDataFormat format = encoderFactory.currentFormat();
+        SensorSampleBounds bounds = new SensorSampleBounds(encoderFactory.timestampZone());
+        String objectKey = rawDataFileWriter.buildObjectKey(user, format);
+
+        // 2️⃣ 샘플 단위로 파싱 → 검증 → 인코딩 → 업로드 스트림에 기록
+        ZoneId zone = encoderFactory.timestampZone();
+        String savedKey = fileStorageService.uploadStream(objectKey, format.getContentType(), out -> {
+            SensorSampleEncoder encoder = encoderFactory.create(format, out);
+            encoder.start();
+
+            try (MappingIterator<RawSensorDataRequest> samples =
+                         objectMapper.readerFor(RawSensorDataRequest.class).readValues(body)) {
+                while (samples.hasNextValue()) {
+                    RawSensorDataRequest sample = samples.nextValue();
+                    validateSample(sample, zone, "line " + (sampleCount.get() + 1));
+                    bounds.add(sample);
+                    validateFileSpan(bounds.getSpanMillis());
+                    encoder.write(sample);
+                    notifyListeners(user, sample);
+                    sampleCount.incrementAndGet();
+                }
+            } catch (JacksonIOException e) {
+                // 연결 끊김 / 읽기 실패는 형식 오류(400)가 아니므로 그대로 전파 (업로드는 중단됨)
+                throw e;
+            } catch (JacksonException e) {
+                throw new IllegalArgumentException("센서 샘플 형식이 올바르지 않습니다. (line " + (sampleCount.get() + 1) + ")");
+            }
+
+            // 빈 스트림이면 업로드 자체를 취소
+            if (sampleCount.get() == 0) {
+                throw new IllegalArgumentException("업로드할 센서 샘플이 없습니다.");
+            }
+            encoder.finish();
+        });
+
+        // 3️⃣ 메타데이터 DB 저장 (샘플 수 / 시간 범위 포함)
+        rawDataFileRepository.save(bounds.toFile(user, savedKey, format));
+        logThroughput("stream", user, sampleCount.get(), startedAt);
+
+        return new RawDataBatchUploadResponse(savedKey, sampleCount.get());
+    }
+
+    /**
+     * 기간 조회
+     * ✔ offset 대신 (마지막 샘플 시각, id) 커서로 이어서 조회 → 페이지가 깊어져도 비용 일정
+     * ✔ 파일별 첫 / 마지막 샘플 시각으로 범위 밖 파일은 열지 않고 제외
+     * ✔ 파일 시간 범위 한도(max-file-span) 덕분에 인덱스 스캔이 구간 끝 + 한도에서 멈춤
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public RawDataFilePageResponse findFilesInRange(
+            User requester,
+            Long userId,
+            String from,
+            String to,
+            String cursor,
+            int size
+    ) {
+        // 1️⃣ 조회 대상 / 권한 확인
+        Long targetUserId = resolveTargetUserId(requester, userId);
+
+        // 2️⃣ 조회 조건 검증
+        int maxPageSize = rawDataProperties.getQuery().getMaxPageSize();
+        if (size < 1 || size > maxPageSize) {
+            throw new IllegalArgumentException("size는 1 ~ " + maxPageSize + " 이어야 합니다.");
+        }
+        ZoneId zone = encoderFactory.timestampZone();
+        long fromMillis = SensorTimestamps.toEpochMillis(from, zone);
+        long toMillis = SensorTimestamps.toEpochMillis(to, zone);
+        if (fromMillis >= toMillis) {
+            throw new IllegalArgumentException("from은 to보다 이전이어야 합니다.");
+        }
+
+        long cursorAt = Long.MIN_VALUE;
+        long cursorId = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            long[] position = parseCursor(cursor);
+            cursorAt = position[0];
+            cursorId = position[1];
+        }
+
+        // 3️⃣ 마지막 샘플 시각 스캔 범위 [max(from, 커서), to + 파일 최대 시간 범위)
+        //    → 구간과 겹치는 파일은 첫 샘플이 to 이전이므로 마지막 샘플도 이 범위 안에 있음
+        long scanFrom = Math.max(fromMillis, cursorAt);
+        long maxFileSpanMillis = rawDataProperties.getStorage().getMaxFileSpan().toMillis();
+        long scanTo = toMillis > Long.MAX_VALUE - maxFileSpanMillis ? Long.MAX_VALUE : toMillis + maxFileSpanMillis;
+
+        // 4️⃣ size + 1개 조회로 다음 페이지 존재 여부 판단 (count 쿼리 없음)
+        List<RawDataFileResponse> files = rawDataFileRepository.findInTimeRange(
+                targetUserId, scanFrom, scanTo, toMillis, cursorAt, cursorId, PageRequest.of(0, size + 1)
+        );
+
+        boolean hasNext = files.size() > size;
+        if (hasNext) {
+            files = files.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            RawDataFileResponse last = files.get(files.size() - 1);
+            nextCursor = last.getLastSampleAt() + ":" + last.getFileId();
+        }
+        return new RawDataFilePageResponse(files, size, hasNext, nextCursor);
+    }
+
+    /**
+     * rollup 조회
+     * ✔ 주 / 월 단위 구간도 원본 파일을 열지 않고 tier 버킷만 읽음
+     * ✔ 보관 기간이 지난 tier는 건너뛰고 더 큰 tier 사용
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public RawDataRollupResponse findRollups(
+            User requester,
+            Long userId,
+            String from,
+            String to,
+            Duration resolution
+    ) {
+        // 1️⃣ 조회 대상 / 권한 확인
+        Long targetUserId = resolveTargetUserId(requester, userId);
+
+        // 2️⃣ 조회 조건 검증
+        ZoneId zone = encoderFactory.timestampZone();
+        long fromMillis = SensorTimestamps.toEpochMillis(from, zone);
+        long toMillis = SensorTimestamps.toEpochMillis(to, zone);
+        if (fromMillis >= toMillis) {
+            throw new IllegalArgumentException("from은 to보다 이전이어야 합니다.");
+        }
+        if (resolution != null && (resolution.isNegative() || resolution.isZero())) {
+            throw new IllegalArgumentException("resolution은 0보다 커야 합니다.");
+        }
+
+        // 3️⃣ tier 선택 후 버킷 조회 (첫 버킷은 from이 속한 버킷부터)
+        RollupTier tier = chooseTier(
+                fromMillis, toMillis, resolution, System.currentTimeMillis(), rawDataProperties.getRollup()
+        );
+        List<RawDataRollupPointResponse> points = rawDataRollupRepository.findInRange(
+                        targetUserId, tier, tier.bucketStart(fromMillis), toMillis
+                ).stream()
+                .map(RawDataServiceImpl::toPoint)
+                .toList();
+
+        return new RawDataRollupResponse(targetUserId, tier, tier.getBucketMillis(), fromMillis, toMillis, points);
+    }
+
+    /**
+     * 조회에 사용할 rollup tier (보관 기간 안의 tier 중 resolution / maxPoints 기준)
+     */
+    static RollupTier chooseTier(
+            long fromMillis,
+            long toMillis,
+            Duration resolution,
+            long now,
+            RawDataProperties.Rollup properties
+    ) {
+        long range = toMillis - fromMillis;
+
+        RollupTier chosen = null;
+        for (RollupTier tier : RollupTier.values()) {
+            // 보관 기간이 지난 구간을 포함하면 사용할 수 없음
+            if (!isRetained(tier, fromMillis, now, properties)) {
+                continue;
+            }
+            if (resolution != null) {
+                // 요청 resolution 이하 중 가장 큰 tier (없으면 가장 작은 tier)
+                if (chosen == null || tier.getBucketMillis() <= resolution.toMillis()) {
+                    chosen = tier;
+                }
+            } else if (chosen == null || range / chosen.getBucketMillis() > properties.getMaxPoints()) {
+                // resolution이 없으면 maxPoints 이내인 가장 작은 tier
+                chosen = tier;
+            }
+        }
+
+        if (range / chosen.getBucketMillis() > properties.getMaxPoints()) {
+            throw new IllegalArgumentException(
+                    "조회 구간에 비해 resolution이 너무 작습니다. (최대 " + properties.getMaxPoints() + "개 버킷)"
             );
+        }
+        return chosen;
+    }
 
-            try (FileWriter writer = new FileWriter(tempFile.toFile())) {
-                writer.write("timestamp,p1,p2,p3,p4,acc_x,acc_y,acc_z\n");
-                writer.write(String.format(
-                        "%s,%d,%d,%d,%d,%.3f,%.3f,%.3f\n",
-                        request.getTimestamp(),
-                        request.getPressure1(),
-                        request.getPressure2(),
-                        request.getPressure3(),
-                        request.getPressure4(),
-                        request.getAccX(),
-                        request.getAccY(),
-                        request.getAccZ()
-                ));
+    private static boolean isRetained(RollupTier tier, long fromMillis, long now, RawDataProperties.Rollup properties) {
+        return switch (tier) {
+            case SECOND -> fromMillis >= now - properties.getSecondTierRetention().toMillis();
+            case MINUTE -> fromMillis >= now - properties.getMinuteTierRetention().toMillis();
+            case HOUR -> true;
+        };
+    }
+
+    private static RawDataRollupPointResponse toPoint(RawDataRollup rollup) {
+        long count = rollup.getSampleCount();
+        return new RawDataRollupPointResponse(
+                rollup.getBucketStart(),
+                count,
+                toSummary(rollup.getPressure1(), count),
+                toSummary(rollup.getPressure2(), count),
+                toSummary(rollup.getPressure3(), count),
+                toSummary(rollup.getPressure4(), count),
+                toSummary(rollup.getAccX(), count),
+                toSummary(rollup.getAccY(), count),
+                toSummary(rollup.getAccZ(), count)
+        );
+    }
+
+    private static RawDataChannelSummary toSummary(RollupChannelStats stats, long count) {
+        return new RawDataChannelSummary(stats.getMin(), stats.getMax(), count == 0 ? 0 : stats.getSum() / count);
+    }
+
+    /**
+     * 조회 대상 사용자 id (본인 또는 요청자가 보호자로 연동된 환자만 허용)
+     */
+    private Long resolveTargetUserId(User requester, Long userId) {
+        Long targetUserId = userId == null ? requester.getId() : userId;
+        if (!targetUserId.equals(requester.getId())
+                && (requester.getRole() != Role.GUARDIAN
+                || !userLinkRepository.existsLink(requester.getId(), targetUserId))) {
+            throw new PermissionDeniedException("연동된 환자의 데이터만 조회할 수 있습니다.");
+        }
+        return targetUserId;
+    }
+
+    private static long[] parseCursor(String cursor) {
+        int separator = cursor.indexOf(':');
+        try {
+            if (separator > 0) {
+                return new long[]{
+                        Long.parseLong(cursor.substring(0, separator)),
+                        Long.parseLong(cursor.substring(separator + 1))
+                };
             }
-            return tempFile;
+        } catch (NumberFormatException ignored) {
+            // 아래에서 처리
+        }
+        throw new IllegalArgumentException("cursor 형식이 올바르지 않습니다.");
+    }
 
-        } catch (Exception e) {
-            throw new IllegalCsvCreateException("CSV 파일 생성에 실패했습니다.");
+    private List<RawSensorDataRequest> validateBatch(RawSensorDataBatchRequest request) {
+        List<RawSensorDataRequest> samples = request.getSamples();
+
+        // 1️⃣ 배치 크기 검증
+        if (samples == null || samples.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 센서 샘플이 없습니다.");
+        }
+        int maxSamples = rawDataProperties.getBatch().getMaxSamples();
+        if (samples.size() > maxSamples) {
+            throw new IllegalArgumentException("한 번에 업로드할 수 있는 샘플 수(" + maxSamples + ")를 초과했습니다.");
+        }
+
+        // 2️⃣ timestamp 검증 (저장 형식과 무관하게 접수 단계에서 400으로 거절)
+        ZoneId zone = encoderFactory.timestampZone();
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        for (int i = 0; i < samples.size(); i++) {
+            long timestamp = validateSample(samples.get(i), zone, (i + 1) + "번째 샘플");
+            first = Math.min(first, timestamp);
+            last = Math.max(last, timestamp);
+        }
+
+        // 3️⃣ 파일 1개의 시간 범위 한도 검증 (기간 조회의 스캔 범위가 이 한도에 의존)
+        validateFileSpan(last - first);
+        return samples;
+    }
+
+    private void validateFileSpan(long spanMillis) {
+        Duration maxFileSpan = rawDataProperties.getStorage().getMaxFileSpan();
+        if (spanMillis > maxFileSpan.toMillis()) {
+            throw new IllegalArgumentException("한 번에 업로드할 수 있는 샘플 시간 범위(" + maxFileSpan + ")를 초과했습니다.");
+        }
+    }
+
+    /**
+     * 저장 / 분석 단계에서 해석할 수 없는 샘플을 접수 전에 거절
+     * (202 응답 후 워커에서 실패하거나, 저장된 파일을 분석할 수 없게 되는 것 방지)
+     */
+    private static long validateSample(RawSensorDataRequest sample, ZoneId zone, String position) {
+        if (sample == null) {
+            throw new IllegalArgumentException("센서 샘플이 비어 있습니다. (" + position + ")");
+        }
+        try {
+            return SensorTimestamps.toEpochMillis(sample.getTimestamp(), zone);
+        } catch (IllegalArgumentException | DateTimeException | ArithmeticException e) {
+            throw new IllegalArgumentException("센서 샘플의 timestamp 형식이 올바르지 않습니다. (" + position + ")");
+        }
+    }
+
+    private void notifyListeners(User user, List<RawSensorDataRequest> samples) {
+        for (SensorSampleListener listener : sampleListeners) {
+            try {
+                listener.onSamples(user, samples);
+            } catch (RuntimeException e) {
+                log.error("sensor sample listener failed: listener={}, userId={}",
+                        listener.getClass().getSimpleName(), user.getId(), e);
+            }
         }
     }
 
-    private String buildObjectKey(User user) {
-        // 예: raw-data/user-1/20251226_193000.csv
-        String now = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        return "raw-data/user-" + user.getId() + "/" + now + ".csv";
+    private void notifyListeners(User user, RawSensorDataRequest sample) {
+        for (SensorSampleListener listener : sampleListeners) {
+            try {
+                listener.onSample(user, sample);
+            } catch (RuntimeException e) {
+                log.error("sensor sample listener failed: listener={}, userId={}",
+                        listener.getClass().getSimpleName(), user.getId(), e);
+            }
+        }
+    }
+
+    private void logThroughput(String mode, User user, int samples, long startedAt) {
+        long elapsedNanos = Math.max(System.nanoTime() - startedAt, 1);
+
+        // 처리량은 요청 수가 아닌 샘플 수 기준으로 기록
+        log.info("raw-data {} uploaded: userId={}, samples={}, throughput={} samples/s",
+                mode, user.getId(), samples, samples * 1_000_000_000L / elapsedNanos);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,138 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.config.rawData.RawDataProperties;
+import com.example.catchme.dto.RawSensorDataRequest;
+import com.example.catchme.model.User;
+import com.example.catchme.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 시작 시 이전 실행에서 저장되지 못한 WAL 세그먼트를 다시 저장
+ *
+ * ✔ 저장 완료 표시가 없는 레코드만 사용자별로 모아 윈도우 크기 / 파일 시간 범위 한도 단위로 파일로 저장
+ * ✔ 청크 저장이 끝나면 샘플이 모두 포함된 레코드에 저장 완료 표시
+ *   → 도중에 실패해도 다음 시작 때 이미 저장한 레코드는 다시 저장하지 않음
+ * ✔ 세그먼트의 모든 샘플이 저장된 뒤에만 세그먼트 파일 삭제
+ * ✔ 저장 실패 시 파일을 남겨 다음 시작 때 다시 시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class RawDataWalReplayer {
+
+    private final RawDataWriteAheadLog writeAheadLog;
+    private final RawDataFileWriter rawDataFileWriter;
+    private final UserRepository userRepository;
+    private final RawDataProperties rawDataProperties;
+    private final SensorSampleEncoderFactory encoderFactory;
+
+    @EventListener(ApplicationReadyEvent.class)
+    void replay() {
+        if (!writeAheadLog.isEnabled()) {
+            return;
+        }
+
+        for (Path segment : writeAheadLog.getRecoveredSegments()) {
+            try {
+                int samples = replaySegment(segment);
+                writeAheadLog.deleteRecovered(segment);
+                log.info("raw-data WAL replayed: segment={}, samples={}", segment.getFileName(), samples);
+            } catch (RuntimeException e) {
+                log.error("raw-data WAL replay failed, will retry on next start: segment={}", segment.getFileName(), e);
+            }
+        }
+    }
+
+    private int replaySegment(Path segment) {
+
+        // 1️⃣ 사용자별로 샘플 모으기 (기록 순서 유지)
+        Map<Long, PendingSamples> samplesByUser = new LinkedHashMap<>();
+        writeAheadLog.readSegment(segment, record ->
+                samplesByUser.computeIfAbsent(record.getUserId(), id -> new PendingSamples())
+                        .add(record)
+        );
+
+        // 2️⃣ 윈도우 크기 / 파일 시간 범위 한도 단위로 파일 저장
+        int chunkSize = rawDataProperties.getWindow().getMaxSamples();
+        long maxFileSpanMillis = rawDataProperties.getStorage().getMaxFileSpan().toMillis();
+        int replayed = 0;
+
+        for (Map.Entry<Long, PendingSamples> entry : samplesByUser.entrySet()) {
+            PendingSamples pending = entry.getValue();
+            Optional<User> user = userRepository.findById(entry.getKey());
+            if (user.isEmpty()) {
+                log.warn("raw-data WAL samples dropped for deleted user: userId={}, samples={}",
+                        entry.getKey(), pending.samples.size());
+                continue;
+            }
+
+            List<RawSensorDataRequest> samples = pending.samples;
+            int marked = 0;
+            for (int from = 0, to; from < samples.size(); from = to) {
+                to = chunkEnd(samples, from, chunkSize, maxFileSpanMillis);
+                try {
+                    rawDataFileWriter.write(rawDataFileWriter.newBatch(user.get(), samples.subList(from, to)));
+                    replayed += to - from;
+                } catch (RuntimeException e) {
+                    if (!RawDataIngestionQueue.isPermanentFailure(e)) {
+                        throw e;
+                    }
+                    // 저장할 수 없는 샘플 → 건너뛰고 세그먼트의 나머지 재처리 계속
+                    log.error("raw-data WAL samples dropped: userId={}, samples={}", entry.getKey(), to - from, e);
+                }
+
+                // 3️⃣ 샘플이 모두 저장된 레코드에 저장 완료 표시
+                List<Long> committed = new ArrayList<>();
+                while (marked < pending.recordEnds.size() && pending.recordEnds.get(marked) <= to) {
+                    committed.add(pending.recordPositions.get(marked++));
+                }
+                writeAheadLog.markRecovered(segment, committed);
+            }
+        }
+        return replayed;
+    }
+
+    /**
+     * from부터 chunkSize개 이내, 시간 범위가 한도를 넘기 직전까지의 청크 끝 (최소 1개 포함)
+     */
+    private int chunkEnd(List<RawSensorDataRequest> samples, int from, int chunkSize, long maxFileSpanMillis) {
+        SensorSampleBounds bounds = new SensorSampleBounds(encoderFactory.timestampZone());
+        int limit = Math.min(from + chunkSize, samples.size());
+        int to = from;
+        while (to < limit && (to == from || bounds.fits(samples.get(to), maxFileSpanMillis))) {
+            bounds.add(samples.get(to++));
+        }
+        return to;
+    }
+
+    /**
+     * 사용자 1명의 재처리 대상 샘플과 레코드 경계
+     */
+    private static class PendingSamples {
+
+        private final List<RawSensorDataRequest> samples = new ArrayList<>();
+
+        /** 레코드의 세그먼트 내 위치 */
+        private final List<Long> recordPositions = new ArrayList<>();
+
+        /** 레코드의 마지막 샘플 다음 인덱스 (samples 기준) */
+        private final List<Integer> recordEnds = new ArrayList<>();
+
+        private void add(RawDataWriteAheadLog.Record record) {
+            samples.addAll(record.getSamples());
+            recordPositions.add(record.getPosition());
+            recordEnds.add(samples.size());
+        }
+    }
+}
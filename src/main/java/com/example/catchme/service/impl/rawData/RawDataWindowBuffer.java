@@ -0,0 +1,205 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.config.rawData.RawDataProperties;
+import com.example.catchme.dto.RawSensorDataRequest;
+import com.example.catchme.exception.exceptions.RawDataIngestionBusyException;
+import com.example.catchme.model.User;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 시간 윈도우 버퍼
+ *
+ * ✔ 샘플을 사용자별로 모아두었다가 윈도우 1개당 S3 object 1개로 저장
+ * ✔ 윈도우는 raw-data.window.duration 경과 또는 max-samples 도달 시 봉인
+ * ✔ 새 샘플로 시간 범위가 raw-data.storage.max-file-span을 넘게 되면 기존 윈도우를 먼저 봉인
+ * ✔ 봉인된 윈도우는 RawDataIngestionQueue로 넘겨 비동기 저장
+ * ✔ 저장 큐가 가득 차면 봉인한 배치를 그대로 보관했다가 다음 주기에 재시도,
+ *   보관 + 윈도우 샘플이 한도(max-samples × 2)를 넘으면 새 샘플을 503으로 거절
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class RawDataWindowBuffer {
+
+    private final RawDataIngestionQueue rawDataIngestionQueue;
+    private final RawDataFileWriter rawDataFileWriter;
+    private final RawDataProperties rawDataProperties;
+    private final SensorSampleEncoderFactory encoderFactory;
+
+    private final Map<Long, UserWindow> windows = new ConcurrentHashMap<>();
+
+    /**
+     * 샘플을 사용자 윈도우에 추가 (가득 차면 즉시 봉인)
+     */
+    void append(User user, List<RawSensorDataRequest> samples, List<Long> walRecords) {
+        int maxSamples = rawDataProperties.getWindow().getMaxSamples();
+        long maxFileSpanMillis = rawDataProperties.getStorage().getMaxFileSpan().toMillis();
+
+        SensorSampleBounds bounds = new SensorSampleBounds(encoderFactory.timestampZone());
+        bounds.addAll(samples);
+
+        while (true) {
+            UserWindow window = windows.computeIfAbsent(user.getId(), id -> new UserWindow());
+            RawDataBatch spanSealed = null;
+            RawDataBatch sealed = null;
+
+            synchronized (window) {
+                // 정리 중 제거된 윈도우면 새 윈도우로 다시 시도
+                if (window.retired) {
+                    continue;
+                }
+                if (window.deferredSamples + window.samples.size() + samples.size() > maxSamples * 2) {
+                    throw new RawDataIngestionBusyException("센서 데이터 처리량이 많습니다. 잠시 후 다시 시도해주세요.");
+                }
+
+                // 합치면 파일 시간 범위 한도를 넘는 경우 기존 윈도우를 먼저 봉인
+                if (!window.samples.isEmpty() && !window.bounds.fits(bounds, maxFileSpanMillis)) {
+                    spanSealed = window.seal();
+                }
+
+                if (window.samples.isEmpty()) {
+                    window.openedAtMillis = System.currentTimeMillis();
+                }
+                window.user = user;
+                window.samples.addAll(samples);
+                window.walRecords.addAll(walRecords);
+                window.bounds.add(bounds);
+
+                if (window.samples.size() >= maxSamples) {
+                    sealed = window.seal();
+                }
+            }
+
+            if (spanSealed != null) {
+                submitOrDefer(window, spanSealed);
+            }
+            if (sealed != null) {
+                submitOrDefer(window, sealed);
+            }
+            return;
+        }
+    }
+
+    /**
+     * 기간이 지난 윈도우 봉인 + 오래 비어 있는 윈도우 정리
+     */
+    @Scheduled(fixedDelayString = "${raw-data.window.sweep-interval:PT1S}")
+    void sealExpiredWindows() {
+        long now = System.currentTimeMillis();
+        long durationMillis = rawDataProperties.getWindow().getDuration().toMillis();
+
+        windows.forEach((userId, window) -> {
+            List<RawDataBatch> pending = new ArrayList<>();
+
+            synchronized (window) {
+                // 저장 큐 포화로 보관 중인 배치부터 다시 제출
+                pending.addAll(window.takeDeferred());
+
+                if (window.samples.isEmpty()) {
+                    if (pending.isEmpty() && now - window.openedAtMillis >= durationMillis) {
+                        window.retired = true;
+                        windows.remove(userId, window);
+                    }
+                } else if (now - window.openedAtMillis >= durationMillis) {
+                    pending.add(window.seal());
+                }
+            }
+
+            for (RawDataBatch batch : pending) {
+                submitOrDefer(window, batch);
+            }
+        });
+    }
+
+    /**
+     * 종료 시 남아 있는 윈도우를 모두 봉인해 저장 큐로 전달
+     */
+    @PreDestroy
+    void flushAll() {
+        windows.forEach((userId, window) -> {
+            List<RawDataBatch> pending;
+            synchronized (window) {
+                pending = new ArrayList<>(window.takeDeferred());
+                if (!window.samples.isEmpty()) {
+                    pending.add(window.seal());
+                }
+            }
+            for (RawDataBatch batch : pending) {
+                submitOrDefer(window, batch);
+            }
+        });
+    }
+
+    private void submitOrDefer(UserWindow window, RawDataBatch sealed) {
+        try {
+            rawDataIngestionQueue.submit(sealed);
+        } catch (RawDataIngestionBusyException e) {
+            // 저장 큐 포화 → 봉인한 배치를 그대로 보관하고 다음 주기에 재시도
+            defer(window, sealed);
+            log.warn("raw-data window flush deferred: userId={}, samples={}",
+                    sealed.getUser().getId(), sealed.getSamples().size());
+        }
+    }
+
+    /**
+     * 제출하지 못한 배치를 윈도우에 보관
+     *
+     * ✔ 이미 접수된 샘플이므로 윈도우 한도를 검사하지 않음 (예외로 샘플 / WAL 레코드를 잃지 않음)
+     * ✔ 현재 윈도우와 합치지 않음 → 파일 시간 범위 한도 유지, 다음 주기에 바로 다시 제출
+     */
+    private void defer(UserWindow window, RawDataBatch sealed) {
+        while (true) {
+            synchronized (window) {
+                if (!window.retired) {
+                    window.deferred.add(sealed);
+                    window.deferredSamples += sealed.getSamples().size();
+                    return;
+                }
+            }
+            // 정리 중 제거된 윈도우면 사용자의 현재 윈도우로 다시 시도
+            window = windows.computeIfAbsent(sealed.getUser().getId(), id -> new UserWindow());
+        }
+    }
+
+    /**
+     * 사용자 1명의 현재 윈도우 (모든 접근은 인스턴스 락 안에서 수행)
+     */
+    private class UserWindow {
+
+        private User user;
+        private List<RawSensorDataRequest> samples = new ArrayList<>();
+        private List<Long> walRecords = new ArrayList<>();
+        private SensorSampleBounds bounds = new SensorSampleBounds(encoderFactory.timestampZone());
+        private long openedAtMillis = System.currentTimeMillis();
+        private boolean retired;
+
+        /** 저장 큐 포화로 제출하지 못한 배치 (봉인 순서 유지) */
+        private List<RawDataBatch> deferred = new ArrayList<>();
+        private int deferredSamples;
+
+        private RawDataBatch seal() {
+            RawDataBatch batch = rawDataFileWriter.newBatch(user, samples, walRecords);
+            samples = new ArrayList<>();
+            walRecords = new ArrayList<>();
+            bounds = new SensorSampleBounds(encoderFactory.timestampZone());
+            openedAtMillis = System.currentTimeMillis();
+            return batch;
+        }
+
+        private List<RawDataBatch> takeDeferred() {
+            List<RawDataBatch> taken = deferred;
+            deferred = new ArrayList<>();
+            deferredSamples = 0;
+            return taken;
+        }
+    }
+}
@@ -0,0 +1,587 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.config.rawData.RawDataProperties;
+import com.example.catchme.dto.RawSensorDataRequest;
+import com.example.catchme.exception.exceptions.RawDataIngestionBusyException;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 접수된 센서 샘플의 로컬 write-ahead log (append-only, memory-mapped 세그먼트)
+ *
+ * ✔ 비동기 / 윈도우 업로드는 응답 전에 append() → 디스크 fsync 완료 후 반환
+ * ✔ fsync는 group commit: 플러셔 스레드가 group-commit-interval 마다
+ *   그 사이 기록된 레코드를 한 번에 force() 하고 대기 중인 요청을 모두 깨움
+ * ✔ fsync가 durable-timeout 안에 끝나지 않으면 요청을 503으로 실패 (무한 대기 없음)
+ * ✔ RawDataFile 행이 저장되면 release() → 레코드에 저장 완료 표시,
+ *   세그먼트의 레코드가 모두 반영되면 파일 삭제
+ * ✔ 정상 종료 시 모두 반영된 세그먼트는 삭제, 남은 세그먼트도 저장 완료 표시를 fsync
+ * ✔ 시작 시 남아 있는 세그먼트는 RawDataWalReplayer가 저장 완료 표시가 없는 레코드만 다시 저장
+ *
+ * 세그먼트 구조:
+ * <pre>
+ * [magic "CWAL" int32][version int32] record*
+ * record  = [length int32][crc32 int32][state int32][payload]
+ * payload = [userId int64][sampleCount int32]
+ *           ([timestampLength int16][timestamp UTF-8][p1..p4 int32 ×4][acc_x..z float64 ×3]) × sampleCount
+ * </pre>
+ * length가 0이거나 CRC가 맞지 않는 지점을 세그먼트의 끝으로 본다.
+ * state는 CRC에 포함하지 않고 release() 시 제자리에서 덮어쓰며, 다음 group commit 때 함께 fsync된다.
+ */
+@Slf4j
+@Component
+class RawDataWriteAheadLog {
+
+    /** 비활성 상태에서 append()가 돌려주는 레코드 id */
+    static final long DISABLED = -1L;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+
+    private static final int SEGMENT_MAGIC = 0x4357414C; // "CWAL"
+    private static final int SEGMENT_VERSION = 1;
+    private static final int SEGMENT_HEADER_BYTES = 8;
+
+    private static final int RECORD_HEADER_BYTES = 12;
+    private static final int STATE_OFFSET = 8;
+
+    /** 레코드 상태: 저장 대기 / 저장 완료(또는 실패 응답으로 폐기) */
+    private static final int STATE_PENDING = 0;
+    private static final int STATE_COMMITTED = 1;
+
+    /** timestamp가 null인 샘플의 길이 표시 */
+    private static final int NULL_TIMESTAMP = 0xFFFF;
+
+    private final RawDataProperties.Wal properties;
+    private final boolean enabled;
+
+    /** 시작 시점에 이미 존재하던 (재처리 대상) 세그먼트 */
+    private final List<Path> recoveredSegments = new ArrayList<>();
+
+    /** 아직 삭제되지 않은 이번 실행의 세그먼트 */
+    private final Map<Long, Segment> segments = new ConcurrentHashMap<>();
+
+    /** append / 세그먼트 교체는 이 락 안에서만 수행 */
+    private final Object appendLock = new Object();
+    private final List<Segment> dirtySegments = new ArrayList<>();
+
+    /** 저장 완료 표시만 바뀐 세그먼트 (다음 group commit에서 force) */
+    private final Set<Segment> releasedSegments = ConcurrentHashMap.newKeySet();
+    private Segment activeSegment;
+    private long nextSegmentId;
+    private long appendedSequence;
+
+    /** fsync 완료된 마지막 순번 */
+    private final Object durableMonitor = new Object();
+    private long durableSequence;
+
+    /** 플러셔 스레드만 사용하는 마지막 force 순번 */
+    private long forcedSequence;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    RawDataWriteAheadLog(RawDataProperties rawDataProperties) throws IOException {
+        this.properties = rawDataProperties.getWal();
+        this.enabled = properties.isEnabled();
+
+        if (!enabled) {
+            return;
+        }
+
+        Path directory = Path.of(properties.getDirectory());
+        Files.createDirectories(directory);
+
+        // 1️⃣ 기존 세그먼트 수집 (재처리 대상)
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(RawDataWriteAheadLog::isSegmentFile)
+                    .sorted()
+                    .forEach(recoveredSegments::add);
+        }
+        this.nextSegmentId = recoveredSegments.stream()
+                .mapToLong(RawDataWriteAheadLog::segmentId)
+                .max()
+                .orElse(0L) + 1;
+
+        // 2️⃣ group commit 플러셔 시작
+        this.running = true;
+        this.flusher = new Thread(this::runFlusher, "raw-data-wal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 샘플 묶음을 레코드 1개로 기록하고 fsync될 때까지 대기
+     *
+     * @return 기록된 레코드 id (저장 완료 후 release()에 그대로 전달)
+     * @throws RawDataIngestionBusyException durable-timeout 안에 fsync되지 않은 경우 (레코드는 폐기 표시)
+     */
+    long append(Long userId, List<RawSensorDataRequest> samples) {
+        if (!enabled) {
+            return DISABLED;
+        }
+
+        byte[] record = encodeRecord(userId, samples);
+        long sequence;
+        long recordId;
+
+        synchronized (appendLock) {
+            Segment segment = segmentFor(record.length);
+            recordId = recordId(segment.id, segment.buffer.position());
+            segment.buffer.put(record);
+            segment.pendingRecords.incrementAndGet();
+            if (!dirtySegments.contains(segment)) {
+                dirtySegments.add(segment);
+            }
+            sequence = ++appendedSequence;
+        }
+
+        try {
+            awaitDurable(sequence);
+        } catch (RuntimeException e) {
+            // 실패 응답을 받은 샘플이 재시작 후 저장되지 않도록 폐기 표시
+            release(List.of(recordId));
+            throw e;
+        }
+        return recordId;
+    }
+
+    /**
+     * append()로 기록한 레코드가 RawDataFile로 저장 완료되었음을 알림
+     *
+     * 레코드에 저장 완료 표시를 남겨, 세그먼트가 남아 있더라도 재처리 대상에서 제외한다.
+     * 같은 레코드를 다시 해제해도 (실패 후 재시도 등) 대기 레코드 수는 한 번만 줄어든다.
+     */
+    void release(Collection<Long> recordIds) {
+        for (Long recordId : recordIds) {
+            if (recordId == DISABLED) {
+                continue;
+            }
+            Segment segment = segments.get(segmentIdOf(recordId));
+            if (segment == null) {
+                continue;
+            }
+
+            // 저장 대기 → 저장 완료로 바뀐 경우에만 반영 (상태 워드는 4바이트 정렬이 아니라 CAS 대신 세그먼트 락)
+            int stateIndex = positionOf(recordId) + STATE_OFFSET;
+            synchronized (segment) {
+                if (segment.buffer.getInt(stateIndex) != STATE_PENDING) {
+                    continue;
+                }
+                segment.buffer.putInt(stateIndex, STATE_COMMITTED);
+            }
+
+            if (running) {
+                releasedSegments.add(segment);
+            } else {
+                // 종료 후 해제 → 플러셔가 없으므로 바로 fsync
+                segment.buffer.force();
+            }
+
+            if (segment.pendingRecords.decrementAndGet() == 0 && segment.sealed) {
+                deleteSegment(segment);
+            }
+        }
+    }
+
+    /* =========================================================
+       재처리 (RawDataWalReplayer)
+       ========================================================= */
+
+    List<Path> getRecoveredSegments() {
+        return List.copyOf(recoveredSegments);
+    }
+
+    /**
+     * 세그먼트 파일의 유효한 레코드 중 저장 완료 표시가 없는 레코드만 순서대로 읽음
+     */
+    void readSegment(Path path, Consumer<Record> consumer) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            CRC32 crc = new CRC32();
+
+            // 1️⃣ 세그먼트 헤더 확인
+            if (buffer.remaining() < SEGMENT_HEADER_BYTES || buffer.getInt() != SEGMENT_MAGIC) {
+                log.warn("raw-data WAL segment without header skipped: segment={}", path.getFileName());
+                return;
+            }
+            int version = buffer.getInt();
+            if (version != SEGMENT_VERSION) {
+                throw new IllegalStateException("지원하지 않는 WAL 세그먼트 버전입니다: " + version);
+            }
+
+            // 2️⃣ 레코드 순회
+            while (buffer.remaining() >= RECORD_HEADER_BYTES) {
+                int position = buffer.position();
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                int state = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    break;
+                }
+                if (state != STATE_PENDING) {
+                    buffer.position(buffer.position() + length);
+                    continue;
+                }
+
+                byte[] payload = new byte[length];
+                buffer.get(payload);
+                crc.reset();
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    log.warn("raw-data WAL torn record skipped: segment={}", path.getFileName());
+                    break;
+                }
+                consumer.accept(decodeRecord(position, payload));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 재처리로 저장이 끝난 레코드에 저장 완료 표시 후 fsync
+     * (세그먼트 재처리 도중 실패해도 다음 시작 때 같은 레코드를 다시 저장하지 않음)
+     */
+    void markRecovered(Path path, Collection<Long> positions) {
+        if (positions.isEmpty()) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            ByteBuffer state = ByteBuffer.allocate(4);
+            for (Long position : positions) {
+                state.clear();
+                state.putInt(STATE_COMMITTED).flip();
+                channel.write(state, position + STATE_OFFSET);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void deleteRecovered(Path path) {
+        try {
+            Files.deleteIfExists(path);
+            recoveredSegments.remove(path);
+        } catch (IOException e) {
+            log.warn("raw-data WAL segment delete failed: {}", path, e);
+        }
+    }
+
+    /* =========================================================
+       세그먼트 관리
+       ========================================================= */
+
+    private Segment segmentFor(int recordLength) {
+        if (activeSegment != null && activeSegment.buffer.remaining() >= recordLength) {
+            return activeSegment;
+        }
+
+        // 현재 세그먼트 봉인 (남은 레코드가 없으면 바로 삭제)
+        if (activeSegment != null) {
+            activeSegment.sealed = true;
+            if (activeSegment.pendingRecords.get() == 0) {
+                deleteSegment(activeSegment);
+            }
+        }
+
+        long size = Math.max(properties.getSegmentSize().toBytes(), SEGMENT_HEADER_BYTES + recordLength);
+        activeSegment = openSegment(nextSegmentId++, size);
+        segments.put(activeSegment.id, activeSegment);
+        return activeSegment;
+    }
+
+    private Segment openSegment(long id, long size) {
+        Path path = Path.of(properties.getDirectory(), String.format("%s%020d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 매핑은 채널을 닫아도 유지됨
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(SEGMENT_MAGIC).putInt(SEGMENT_VERSION);
+            return new Segment(id, path, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteSegment(Segment segment) {
+        if (!segments.remove(segment.id, segment)) {
+            return; // 이미 삭제됨
+        }
+        try {
+            Files.deleteIfExists(segment.path);
+        } catch (IOException e) {
+            log.warn("raw-data WAL segment delete failed: {}", segment.path, e);
+        }
+    }
+
+    /* =========================================================
+       group commit
+       ========================================================= */
+
+    private void awaitDurable(long sequence) {
+        long deadline = System.nanoTime() + properties.getDurableTimeout().toNanos();
+
+        synchronized (durableMonitor) {
+            while (durableSequence < sequence) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    // fsync가 계속 실패하는 경우 요청 스레드를 무한히 붙잡지 않음
+                    throw new RawDataIngestionBusyException("센서 데이터를 기록하지 못했습니다. 잠시 후 다시 시도해주세요.");
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(durableMonitor, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("WAL 기록 대기 중 인터럽트되었습니다.", e);
+                }
+            }
+        }
+    }
+
+    private void runFlusher() {
+        long intervalNanos = properties.getGroupCommitInterval().toNanos();
+        while (running) {
+            LockSupport.parkNanos(intervalNanos);
+            forceDirtySegments();
+        }
+        forceDirtySegments();
+    }
+
+    private void forceDirtySegments() {
+        long target;
+        List<Segment> toForce;
+
+        synchronized (appendLock) {
+            target = appendedSequence;
+            toForce = new ArrayList<>(dirtySegments);
+            dirtySegments.clear();
+        }
+
+        // 저장 완료 표시만 바뀐 세그먼트도 함께 force (재시작 시 중복 재처리 방지)
+        for (Iterator<Segment> it = releasedSegments.iterator(); it.hasNext(); ) {
+            Segment segment = it.next();
+            it.remove();
+            if (!toForce.contains(segment) && segments.containsKey(segment.id)) {
+                toForce.add(segment);
+            }
+        }
+        if (toForce.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (Segment segment : toForce) {
+                segment.buffer.force();
+            }
+        } catch (RuntimeException e) {
+            // fsync 실패 시 대기 중인 요청을 계속 붙잡아 두지 않도록 다음 주기에 재시도
+            log.error("raw-data WAL force failed", e);
+            synchronized (appendLock) {
+                toForce.forEach(segment -> {
+                    if (!dirtySegments.contains(segment)) {
+                        dirtySegments.add(segment);
+                    }
+                });
+            }
+            return;
+        }
+
+        if (target == forcedSequence) {
+            return;
+        }
+        forcedSequence = target;
+        synchronized (durableMonitor) {
+            durableSequence = target;
+            durableMonitor.notifyAll();
+        }
+    }
+
+    /**
+     * 정상 종료: 마지막 group commit 후 모든 레코드가 반영된 세그먼트 삭제
+     *
+     * 윈도우 버퍼 / 저장 큐가 이 빈에 의존하므로 먼저 종료(flush)된 뒤 호출된다.
+     * 남은 세그먼트는 저장 대기 레코드만 다음 시작 때 재처리된다.
+     */
+    @PreDestroy
+    void close() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join();
+
+        synchronized (appendLock) {
+            if (activeSegment != null) {
+                activeSegment.sealed = true;
+            }
+        }
+        for (Segment segment : List.copyOf(segments.values())) {
+            if (segment.pendingRecords.get() == 0) {
+                deleteSegment(segment);
+            } else {
+                log.warn("raw-data WAL segment kept for replay: segment={}, pendingRecords={}",
+                        segment.path.getFileName(), segment.pendingRecords.get());
+            }
+        }
+    }
+
+    /* =========================================================
+       레코드 인코딩
+       ========================================================= */
+
+    private static byte[] encodeRecord(Long userId, List<RawSensorDataRequest> samples) {
+        byte[][] timestamps = new byte[samples.size()][];
+        int payloadLength = 8 + 4;
+        for (int i = 0; i < samples.size(); i++) {
+            String timestamp = samples.get(i).getTimestamp();
+            timestamps[i] = timestamp == null ? null : timestamp.getBytes(StandardCharsets.UTF_8);
+            if (timestamps[i] != null && timestamps[i].length >= NULL_TIMESTAMP) {
+                throw new IllegalArgumentException("센서 샘플의 timestamp가 너무 깁니다.");
+            }
+            payloadLength += 2 + (timestamps[i] == null ? 0 : timestamps[i].length) + 4 * 4 + 3 * 8;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_BYTES + payloadLength);
+        buffer.position(RECORD_HEADER_BYTES);
+        buffer.putLong(userId);
+        buffer.putInt(samples.size());
+        for (int i = 0; i < samples.size(); i++) {
+            RawSensorDataRequest sample = samples.get(i);
+            if (timestamps[i] == null) {
+                buffer.putShort((short) NULL_TIMESTAMP);
+            } else {
+                buffer.putShort((short) timestamps[i].length);
+                buffer.put(timestamps[i]);
+            }
+            buffer.putInt(sample.getPressure1());
+            buffer.putInt(sample.getPressure2());
+            buffer.putInt(sample.getPressure3());
+            buffer.putInt(sample.getPressure4());
+            buffer.putDouble(sample.getAccX());
+            buffer.putDouble(sample.getAccY());
+            buffer.putDouble(sample.getAccZ());
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), RECORD_HEADER_BYTES, payloadLength);
+        buffer.putInt(0, payloadLength);
+        buffer.putInt(4, (int) crc.getValue());
+        return buffer.array();
+    }
+
+    private static Record decodeRecord(long position, byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        long userId = buffer.getLong();
+        int sampleCount = buffer.getInt();
+
+        List<RawSensorDataRequest> samples = new ArrayList<>(sampleCount);
+        for (int i = 0; i < sampleCount; i++) {
+            int timestampLength = Short.toUnsignedInt(buffer.getShort());
+            String timestamp = null;
+            if (timestampLength != NULL_TIMESTAMP) {
+                byte[] bytes = new byte[timestampLength];
+                buffer.get(bytes);
+                timestamp = new String(bytes, StandardCharsets.UTF_8);
+            }
+            samples.add(new RawSensorDataRequest(
+                    timestamp,
+                    buffer.getInt(),
+                    buffer.getInt(),
+                    buffer.getInt(),
+                    buffer.getInt(),
+                    buffer.getDouble(),
+                    buffer.getDouble(),
+                    buffer.getDouble()
+            ));
+        }
+        return new Record(position, userId, samples);
+    }
+
+    private static boolean isSegmentFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static long segmentId(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /** 레코드 id = [세그먼트 id 상위 32bit][세그먼트 내 위치 하위 32bit] */
+    private static long recordId(long segmentId, int position) {
+        return (segmentId << 32) | position;
+    }
+
+    private static long segmentIdOf(long recordId) {
+        return recordId >>> 32;
+    }
+
+    private static int positionOf(long recordId) {
+        return (int) recordId;
+    }
+
+    /**
+     * 재처리용으로 읽어낸 레코드
+     */
+    @Getter
+    @AllArgsConstructor
+    static class Record {
+
+        /** 세그먼트 파일 내 레코드 시작 위치 (markRecovered()에 전달) */
+        private final long position;
+        private final Long userId;
+        private final List<RawSensorDataRequest> samples;
+    }
+
+    private static final class Segment {
+
+        private final long id;
+        private final Path path;
+        private final MappedByteBuffer buffer;
+
+        /** 아직 RawDataFile로 저장되지 않은 레코드 수 */
+        private final AtomicInteger pendingRecords = new AtomicInteger();
+
+        /** 더 이상 기록되지 않는 세그먼트 여부 */
+        private volatile boolean sealed;
+
+        private Segment(long id, Path path, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.buffer = buffer;
+        }
+    }
+}
@@ -1,39 +1,86 @@
 package com.example.catchme.service.impl.rawData;
 
+import com.example.catchme.config.rawData.RawDataProperties;
+import com.example.catchme.exception.exceptions.S3DownloadFailException;
 import com.example.catchme.exception.exceptions.S3UploadFailException;
 import com.example.catchme.service.interfaces.rawData.FileStorageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 
-import java.nio.file.Path;
+import java.io.IOException;
+import java.io.InputStream;
 
 @Service
+@Profile("!storage-local & !storage-memory")
 @RequiredArgsConstructor
 public class S3FileStorageServiceImpl implements FileStorageService {
 
-    private final S3Client s3Client;
+    /** S3 multipart upload의 최소 파트 크기 (마지막 파트 제외) */
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final RawDataProperties rawDataProperties;
 
     @Value("${aws.s3.bucket}")
     private String bucket;
 
     @Override
-    public String uploadCsv(Path filePath, String objectKey) {
-        try {
-            PutObjectRequest request = PutObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(objectKey)
-                    .contentType("text/csv")
-                    .build();
+    public String uploadStream(String objectKey, String contentType, StreamWriter writer) {
+        RawDataProperties.Stream stream = rawDataProperties.getStream();
+        long partSize = Math.max(stream.getPartSize().toBytes(), MIN_PART_SIZE);
 
-            s3Client.putObject(request, RequestBody.fromFile(filePath));
+        S3MultipartUploadOutputStream out = new S3MultipartUploadOutputStream(
+                s3AsyncClient,
+                bucket,
+                objectKey,
+                contentType,
+                (int) Math.min(partSize, Integer.MAX_VALUE),
+                stream.getMaxConcurrentParts()
+        );
+
+        try {
+            writer.writeTo(out);
+            out.close();
             return objectKey;
 
-        } catch (Exception e) {
+        } catch (IOException | SdkException e) {
+            abortQuietly(out);
             throw new S3UploadFailException("S3 업로드에 실패했습니다.");
+        } catch (RuntimeException e) {
+            // 입력 데이터 오류 등은 그대로 전달 (업로드만 취소)
+            abortQuietly(out);
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream openStream(String objectKey) {
+        try {
+            // 응답 본문을 받는 대로 읽는 blocking InputStream (object 전체를 버퍼링하지 않음)
+            return s3AsyncClient.getObject(
+                    GetObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(objectKey)
+                            .build(),
+                    AsyncResponseTransformer.toBlockingInputStream()
+            ).join();
+
+        } catch (Exception e) {
+            throw new S3DownloadFailException("S3 조회에 실패했습니다.");
+        }
+    }
+
+    private void abortQuietly(S3MultipartUploadOutputStream out) {
+        try {
+            out.abort();
+        } catch (Exception ignored) {
+            // 취소 실패 시 미완료 파트는 버킷 lifecycle 정책으로 정리됨
         }
     }
 }
@@ -0,0 +1,233 @@
+package com.example.catchme.service.impl.rawData;
+
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 쓰여진 바이트를 파트 크기만큼 모아 S3 multipart upload로 전송하는 OutputStream
+ *
+ * ✔ 가득 찬 파트는 S3AsyncClient로 넘기고 바로 다음 파트를 채움 (최대 maxConcurrentParts개 동시 전송)
+ * ✔ 메모리에는 채우는 중인 파트 1개 + 전송 중인 파트들만 유지
+ * ✔ 전체 크기가 1개 파트에 못 미치면 multipart 대신 단일 PUT으로 업로드
+ * ✔ close() 시 남은 파트 전송을 기다린 뒤 업로드 완료, abort() 시 업로드 취소
+ *
+ * 스레드 안전하지 않으므로 업로드 1건당 1개 인스턴스를 사용한다.
+ */
+class S3MultipartUploadOutputStream extends OutputStream {
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final String bucket;
+    private final String objectKey;
+    private final String contentType;
+    private final int partSize;
+    private final Semaphore inFlightParts;
+
+    private final List<CompletableFuture<CompletedPart>> pendingParts = new ArrayList<>();
+    private byte[] buffer;
+    private int position;
+    private String uploadId;
+    private boolean closed;
+
+    S3MultipartUploadOutputStream(
+            S3AsyncClient s3AsyncClient,
+            String bucket,
+            String objectKey,
+            String contentType,
+            int partSize,
+            int maxConcurrentParts
+    ) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.bucket = bucket;
+        this.objectKey = objectKey;
+        this.contentType = contentType;
+        this.partSize = partSize;
+        this.inFlightParts = new Semaphore(Math.max(1, maxConcurrentParts));
+        // 작은 업로드에서 파트 크기만큼 미리 잡지 않도록 작게 시작해서 키움
+        this.buffer = new byte[Math.min(INITIAL_BUFFER_SIZE, partSize)];
+    }
+
+    @Override
+    public void write(int b) throws InterruptedIOException {
+        ensureWritable();
+        buffer[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws InterruptedIOException {
+        while (length > 0) {
+            ensureWritable();
+            int chunk = Math.min(length, buffer.length - position);
+            System.arraycopy(bytes, offset, buffer, position, chunk);
+            position += chunk;
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedIOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        // 1️⃣ 1개 파트도 채우지 못한 경우 → 단일 PUT
+        if (uploadId == null) {
+            join(s3AsyncClient.putObject(
+                    PutObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(objectKey)
+                            .contentType(contentType)
+                            .build(),
+                    currentBody()
+            ));
+            return;
+        }
+
+        // 2️⃣ 남은 데이터를 마지막 파트로 전송
+        if (position > 0) {
+            uploadPart();
+        }
+
+        // 3️⃣ 모든 파트 전송 완료를 기다린 뒤 완료 처리
+        List<CompletedPart> completedParts = new ArrayList<>(pendingParts.size());
+        for (CompletableFuture<CompletedPart> part : pendingParts) {
+            completedParts.add(join(part));
+        }
+
+        join(s3AsyncClient.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(objectKey)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder()
+                        .parts(completedParts)
+                        .build())
+                .build()));
+    }
+
+    /**
+     * 진행 중인 multipart upload를 취소 (이미 올라간 파트도 S3에서 정리됨)
+     */
+    void abort() {
+        closed = true;
+
+        if (uploadId != null) {
+            // 전송 중인 파트가 끝난 뒤 취소해야 남는 파트가 없음
+            CompletableFuture.allOf(pendingParts.toArray(CompletableFuture[]::new))
+                    .exceptionally(e -> null)
+                    .join();
+
+            join(s3AsyncClient.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey)
+                    .uploadId(uploadId)
+                    .build()));
+        }
+    }
+
+    private void ensureWritable() throws InterruptedIOException {
+        if (closed) {
+            throw new IllegalStateException("이미 종료된 업로드 스트림입니다.");
+        }
+        if (buffer == null) {
+            // 직전 파트를 넘긴 뒤 실제로 더 쓸 때만 다음 파트 버퍼를 잡음
+            buffer = new byte[partSize];
+            return;
+        }
+        if (position < buffer.length) {
+            return;
+        }
+        if (buffer.length < partSize) {
+            buffer = Arrays.copyOf(buffer, Math.min(buffer.length * 2, partSize));
+            return;
+        }
+        uploadPart();
+    }
+
+    private void uploadPart() throws InterruptedIOException {
+        if (uploadId == null) {
+            uploadId = join(s3AsyncClient.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey)
+                    .contentType(contentType)
+                    .build()
+            )).uploadId();
+        }
+
+        // 1️⃣ 동시 전송 파트 수 제한 (초과 시 writer 스레드가 대기 → 메모리 상한 유지)
+        try {
+            inFlightParts.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("파트 전송 대기 중 인터럽트되었습니다.");
+        }
+
+        // 2️⃣ 이미 실패한 파트가 있으면 더 보내지 않음
+        for (CompletableFuture<CompletedPart> part : pendingParts) {
+            if (part.isCompletedExceptionally()) {
+                inFlightParts.release();
+                join(part);
+            }
+        }
+
+        // 3️⃣ 현재 버퍼를 그대로 넘기고 다음 파트 버퍼는 다음 write 때 할당 (마지막 파트 뒤에는 할당하지 않음)
+        int partNumber = pendingParts.size() + 1;
+        CompletableFuture<CompletedPart> part = s3AsyncClient.uploadPart(
+                        UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(objectKey)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) position)
+                                .build(),
+                        currentBody()
+                )
+                .thenApply(response -> CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build())
+                .whenComplete((result, e) -> inFlightParts.release());
+
+        pendingParts.add(part);
+        buffer = null;
+        position = 0;
+    }
+
+    private AsyncRequestBody currentBody() {
+        // 버퍼를 복사하지 않고 그대로 읽게 함 (넘긴 뒤에는 다시 쓰지 않음)
+        return AsyncRequestBody.fromRemainingByteBufferUnsafe(ByteBuffer.wrap(buffer, 0, position));
+    }
+
+    /**
+     * 완료를 기다리고 SDK 예외는 CompletionException을 벗겨서 그대로 던짐
+     */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
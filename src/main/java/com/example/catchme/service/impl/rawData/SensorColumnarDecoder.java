@@ -0,0 +1,208 @@
+package com.example.catchme.service.impl.rawData;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * SensorColumnarEncoder가 기록한 컬럼 바이너리(RawDataFormat.COLUMNAR)를 블록 단위로 디코딩
+ *
+ * ✔ 메모리는 블록 1개 분량만 사용 (컬럼 배열은 블록 간 재사용)
+ * ✔ 블록 헤더의 길이 / 샘플 수를 검증하여 손상된 파일로 과도한 메모리를 잡지 않음
+ *
+ * 스레드 안전하지 않으므로 파일 1개당 1개 인스턴스를 사용한다.
+ */
+class SensorColumnarDecoder implements SensorSampleDecoder {
+
+    /** 블록 1개에 허용하는 최대 샘플 수 (손상 파일 방어, 인코더의 blockSamples 상한) */
+    static final int MAX_BLOCK_SAMPLES = 1 << 20;
+
+    /** 최대 크기 블록의 압축 전 payload 상한 (샘플당 최대 MAX_SAMPLE_BYTES) */
+    private static final int MAX_BLOCK_BYTES = MAX_BLOCK_SAMPLES * SensorColumnarEncoder.MAX_SAMPLE_BYTES;
+
+    /** 압축 후 본문 상한 (압축되지 않는 payload의 Deflate 오버헤드, zlib deflateBound의 보수적 상한) */
+    private static final int MAX_BODY_BYTES = MAX_BLOCK_BYTES + (MAX_BLOCK_BYTES >> 3) + (MAX_BLOCK_BYTES >> 6) + 11;
+
+    private long[] timestamps = new long[0];
+    private int[][] pressures = new int[4][0];
+    private long[][] accelerations = new long[3][0];
+
+    private byte[] body = new byte[1024];
+    private byte[] payload = new byte[1024];
+    private int payloadPosition;
+    private int payloadLength;
+
+    @Override
+    public void decode(InputStream in, SampleVisitor visitor) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in, 64 * 1024));
+
+        // 1️⃣ 파일 헤더
+        byte[] magic = new byte[SensorColumnarEncoder.MAGIC.length];
+        data.readFully(magic);
+        if (!Arrays.equals(magic, SensorColumnarEncoder.MAGIC)) {
+            throw new IOException("컬럼 형식 파일이 아닙니다.");
+        }
+        int version = data.readUnsignedByte();
+        if (version != SensorColumnarEncoder.VERSION) {
+            throw new IOException("지원하지 않는 컬럼 형식 버전입니다: " + version);
+        }
+        boolean deflated = (data.readUnsignedByte() & SensorColumnarEncoder.FLAG_DEFLATE) != 0;
+
+        Inflater inflater = deflated ? new Inflater() : null;
+        try {
+            // 2️⃣ 종료 표시(0)가 나올 때까지 블록 단위로 처리
+            long count;
+            while ((count = readVarLong(data)) != 0) {
+                int rawLength = data.readInt();
+                int bodyLength = data.readInt();
+                if (count < 0 || count > MAX_BLOCK_SAMPLES
+                        || rawLength < 0 || rawLength > MAX_BLOCK_BYTES
+                        || bodyLength < 0 || bodyLength > MAX_BODY_BYTES) {
+                    throw new IOException("컬럼 형식 블록 헤더가 손상되었습니다.");
+                }
+
+                readPayload(data, inflater, rawLength, bodyLength);
+                decodeBlock((int) count, visitor);
+            }
+        } finally {
+            if (inflater != null) {
+                inflater.end();
+            }
+        }
+    }
+
+    /* =========================================================
+       블록 디코딩
+       ========================================================= */
+
+    private void readPayload(DataInputStream data, Inflater inflater, int rawLength, int bodyLength)
+            throws IOException {
+
+        if (inflater == null) {
+            payload = ensureCapacity(payload, bodyLength);
+            data.readFully(payload, 0, bodyLength);
+            payloadLength = bodyLength;
+            payloadPosition = 0;
+            return;
+        }
+
+        body = ensureCapacity(body, bodyLength);
+        data.readFully(body, 0, bodyLength);
+        payload = ensureCapacity(payload, rawLength);
+
+        inflater.reset();
+        inflater.setInput(body, 0, bodyLength);
+        try {
+            int length = 0;
+            while (length < rawLength && !inflater.finished()) {
+                int inflated = inflater.inflate(payload, length, rawLength - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+            if (length != rawLength) {
+                throw new IOException("컬럼 형식 블록 압축 해제 결과가 올바르지 않습니다.");
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("컬럼 형식 블록 압축이 손상되었습니다.", e);
+        }
+
+        payloadLength = rawLength;
+        payloadPosition = 0;
+    }
+
+    private void decodeBlock(int count, SampleVisitor visitor) throws IOException {
+        ensureColumns(count);
+
+        readDeltas(timestamps, count);
+        for (int[] column : pressures) {
+            readDeltas(column, count);
+        }
+        for (long[] column : accelerations) {
+            readDeltas(column, count);
+        }
+
+        double scale = SensorColumnarEncoder.ACC_SCALE;
+        for (int i = 0; i < count; i++) {
+            visitor.accept(
+                    timestamps[i],
+                    pressures[0][i],
+                    pressures[1][i],
+                    pressures[2][i],
+                    pressures[3][i],
+                    accelerations[0][i] / scale,
+                    accelerations[1][i] / scale,
+                    accelerations[2][i] / scale
+            );
+        }
+    }
+
+    private void readDeltas(long[] column, int count) throws IOException {
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            previous += unZigZag(readPayloadVarLong());
+            column[i] = previous;
+        }
+    }
+
+    private void readDeltas(int[] column, int count) throws IOException {
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            previous += unZigZag(readPayloadVarLong());
+            column[i] = (int) previous;
+        }
+    }
+
+    private long readPayloadVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (payloadPosition == payloadLength) {
+                throw new IOException("컬럼 형식 블록이 예상보다 짧습니다.");
+            }
+            byte b = payload[payloadPosition++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("컬럼 형식 varint가 손상되었습니다.");
+    }
+
+    private static long readVarLong(DataInputStream data) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = data.read();
+            if (b < 0) {
+                throw new EOFException("컬럼 형식 파일이 종료 표시 없이 끝났습니다.");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("컬럼 형식 varint가 손상되었습니다.");
+    }
+
+    private void ensureColumns(int count) {
+        if (timestamps.length >= count) {
+            return;
+        }
+        timestamps = new long[count];
+        pressures = new int[4][count];
+        accelerations = new long[3][count];
+    }
+
+    private static byte[] ensureCapacity(byte[] array, int length) {
+        return array.length >= length ? array : new byte[Math.max(length, array.length * 2)];
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.catchme.service.impl.rawData;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/**
+ * SensorCsvEncoder가 기록한 CSV를 바이트 단위로 직접 파싱하는 디코더
+ *
+ * ✔ 행을 String으로 만들지 않고 재사용 버퍼에서 숫자를 직접 읽음 → 행당 객체 할당 없음
+ * ✔ epoch millis가 아닌 timestamp / 고정소수 외 표기(NaN, 지수 등)만 String으로 변환해 처리
+ *
+ * 스레드 안전하지 않으므로 파일 1개당 1개 인스턴스를 사용한다.
+ */
+class SensorCsvDecoder implements SensorSampleDecoder {
+
+    private static final int COLUMNS = 8;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** 정확하게 double로 표현되는 최대 자릿수 (10^15 < 2^53) */
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private final ZoneId zone;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    private byte[] line = new byte[256];
+    private int lineLength;
+    private final int[] fieldStarts = new int[COLUMNS];
+    private final int[] fieldEnds = new int[COLUMNS];
+
+    SensorCsvDecoder(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    @Override
+    public void decode(InputStream in, SampleVisitor visitor) throws IOException {
+        position = 0;
+        limit = 0;
+        boolean firstLine = true;
+
+        while (readLine(in)) {
+            if (lineLength == 0) {
+                continue;
+            }
+            // 헤더 행 (timestamp,p1,...) 건너뜀
+            if (firstLine) {
+                firstLine = false;
+                if (line[0] == 't') {
+                    continue;
+                }
+            }
+
+            split();
+            visitor.accept(
+                    parseTimestamp(),
+                    (int) parseLong(1),
+                    (int) parseLong(2),
+                    (int) parseLong(3),
+                    (int) parseLong(4),
+                    parseDouble(5),
+                    parseDouble(6),
+                    parseDouble(7)
+            );
+        }
+    }
+
+    /* =========================================================
+       행 / 필드 분리
+       ========================================================= */
+
+    private boolean readLine(InputStream in) throws IOException {
+        lineLength = 0;
+        boolean readAny = false;
+
+        while (true) {
+            if (position == limit) {
+                limit = in.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return readAny;
+                }
+            }
+            readAny = true;
+
+            byte b = buffer[position++];
+            if (b == '\n') {
+                if (lineLength > 0 && line[lineLength - 1] == '\r') {
+                    lineLength--;
+                }
+                return true;
+            }
+            if (lineLength == line.length) {
+                line = Arrays.copyOf(line, line.length * 2);
+            }
+            line[lineLength++] = b;
+        }
+    }
+
+    private void split() {
+        int field = 0;
+        fieldStarts[0] = 0;
+        for (int i = 0; i < lineLength; i++) {
+            if (line[i] == ',') {
+                if (field == COLUMNS - 1) {
+                    break;
+                }
+                fieldEnds[field++] = i;
+                fieldStarts[field] = i + 1;
+            }
+        }
+        if (field != COLUMNS - 1) {
+            throw new IllegalArgumentException("CSV 컬럼 수가 올바르지 않습니다: " + text(0, lineLength));
+        }
+        fieldEnds[field] = lineLength;
+    }
+
+    /* =========================================================
+       값 파싱
+       ========================================================= */
+
+    private long parseTimestamp() {
+        int start = fieldStarts[0];
+        int end = fieldEnds[0];
+
+        // epoch millis 숫자면 바로 변환, 그 외(ISO-8601 등)는 SensorTimestamps로 해석
+        if (end - start > 0 && end - start <= 18 && isDigits(start, end)) {
+            return parseDigits(start, end);
+        }
+        return SensorTimestamps.toEpochMillis(text(start, end), zone);
+    }
+
+    private long parseLong(int field) {
+        int start = fieldStarts[field];
+        int end = fieldEnds[field];
+
+        boolean negative = start < end && line[start] == '-';
+        int digitsStart = negative ? start + 1 : start;
+        if (digitsStart == end || end - digitsStart > 18 || !isDigits(digitsStart, end)) {
+            return Long.parseLong(text(start, end)); // 형식 오류는 NumberFormatException
+        }
+
+        long value = parseDigits(digitsStart, end);
+        return negative ? -value : value;
+    }
+
+    private double parseDouble(int field) {
+        int start = fieldStarts[field];
+        int end = fieldEnds[field];
+
+        int i = start;
+        boolean negative = i < end && line[i] == '-';
+        if (negative) {
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean dot = false;
+
+        for (; i < end; i++) {
+            byte b = line[i];
+            if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (dot) {
+                    fractionDigits++;
+                }
+            } else if (b == '.' && !dot) {
+                dot = true;
+            } else {
+                digits = -1; // 지수 / NaN / Infinity 등
+                break;
+            }
+        }
+
+        if (digits <= 0 || digits > MAX_EXACT_DIGITS) {
+            return Double.parseDouble(text(start, end));
+        }
+
+        // 정수 mantissa / 10^n 은 double 나눗셈 1번이라 Double.parseDouble과 같은 값 (정확히 반올림됨)
+        double value = mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    private boolean isDigits(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (line[i] < '0' || line[i] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long parseDigits(int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (line[i] - '0');
+        }
+        return value;
+    }
+
+    private String text(int start, int end) {
+        return new String(line, start, end - start, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.dto.RawSensorDataRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * 센서 샘플을 CSV 행 바이트로 직접 인코딩하는 인코더
+ *
+ * ✔ String.format 대비 포맷 문자열 파싱 / 기본형 박싱 / Locale 조회가 없음
+ * ✔ 재사용 버퍼에 숫자를 직접 기록 → 행당 객체 할당 없음
+ * ✔ 실수는 소수점 3자리 고정 표기 ("%.3f"와 같은 결과, 10진 표기 기준 HALF_UP 반올림)
+ *
+ * 스레드 안전하지 않으므로 업로드 1건당 1개 인스턴스를 사용한다.
+ */
+class SensorCsvEncoder implements SensorSampleEncoder {
+
+    private static final byte[] HEADER =
+            "timestamp,p1,p2,p3,p4,acc_x,acc_y,acc_z\n".getBytes(StandardCharsets.US_ASCII);
+
+    /** 이 값 이상이면 ×1000 결과의 소수부 오차가 커서 String.format으로 처리 */
+    private static final double MAX_FIXED_VALUE = 1.0e9;
+
+    /** ×1000 값의 소수부가 0.5에서 이 범위 안이면 반올림 경계로 보고 10진 표기 기준으로 반올림 */
+    private static final double TIE_MARGIN = 1.0e-3;
+
+    /** timestamp를 제외한 한 행의 최대 바이트 수 (int 4개 + 고정소수 3개 + 구분자) */
+    private static final int MAX_ROW_BYTES_WITHOUT_TIMESTAMP = 4 * 12 + 3 * 24 + 8;
+
+    private static final int DEFAULT_BUFFER_SIZE = 8 * 1024;
+
+    private final OutputStream out;
+    private byte[] buffer;
+    private int position;
+
+    SensorCsvEncoder(OutputStream out) {
+        this.out = out;
+        this.buffer = new byte[DEFAULT_BUFFER_SIZE];
+    }
+
+    @Override
+    public void start() throws IOException {
+        ensureCapacity(HEADER.length);
+        System.arraycopy(HEADER, 0, buffer, position, HEADER.length);
+        position += HEADER.length;
+    }
+
+    @Override
+    public void write(RawSensorDataRequest sample) throws IOException {
+        writeText(sample.getTimestamp());
+
+        ensureCapacity(MAX_ROW_BYTES_WITHOUT_TIMESTAMP);
+        buffer[position++] = ',';
+        writeLong(sample.getPressure1());
+        buffer[position++] = ',';
+        writeLong(sample.getPressure2());
+        buffer[position++] = ',';
+        writeLong(sample.getPressure3());
+        buffer[position++] = ',';
+        writeLong(sample.getPressure4());
+        buffer[position++] = ',';
+        writeFixed3(sample.getAccX());
+        buffer[position++] = ',';
+        writeFixed3(sample.getAccY());
+        buffer[position++] = ',';
+        writeFixed3(sample.getAccZ());
+        buffer[position++] = '\n';
+    }
+
+    @Override
+    public void finish() throws IOException {
+        drain();
+        out.flush();
+    }
+
+    /* =========================================================
+       내부 인코딩
+       ========================================================= */
+
+    private void writeText(String text) throws IOException {
+        if (text == null) {
+            text = "null"; // 기존 "%s" 포맷과 동일한 표기
+        }
+
+        int length = text.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                // 비 ASCII 문자가 섞인 드문 경우만 UTF-8 인코딩으로 처리
+                writeBytes(text.substring(i).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            buffer[position++] = (byte) c;
+        }
+    }
+
+    private void writeFixed3(double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value) || Math.abs(value) >= MAX_FIXED_VALUE) {
+            writeBytes(String.format(Locale.ROOT, "%.3f", value).getBytes(StandardCharsets.UTF_8));
+            ensureCapacity(MAX_ROW_BYTES_WITHOUT_TIMESTAMP); // 나머지 컬럼 기록 공간 재확보
+            return;
+        }
+
+        // 부호 비트 기준 ("%.3f"처럼 -0.0 / -0.0001 도 "-0.000")
+        if (Double.doubleToRawLongBits(value) < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+
+        // "%.3f"는 이진 근사값이 아니라 Double.toString의 10진 자릿수를 HALF_UP 반올림
+        // (예: 0.5025 → 0.502499.. 이지만 "0.503") → 경계 근처만 BigDecimal로 같은 규칙 적용
+        double product = value * 1000.0;
+        double fractionPart = product - Math.floor(product);
+        long scaled = Math.abs(fractionPart - 0.5) < TIE_MARGIN
+                ? BigDecimal.valueOf(value).setScale(3, RoundingMode.HALF_UP).unscaledValue().longValue()
+                : Math.round(product);
+        writeLong(scaled / 1000);
+        buffer[position++] = '.';
+
+        int fraction = (int) (scaled % 1000);
+        buffer[position++] = (byte) ('0' + fraction / 100);
+        buffer[position++] = (byte) ('0' + fraction / 10 % 10);
+        buffer[position++] = (byte) ('0' + fraction % 10);
+    }
+
+    private void writeLong(long value) {
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value; // int 범위 값 / 양수 scaled 값만 들어오므로 overflow 없음
+        }
+
+        int end = position + digitCount(value);
+        int index = end;
+        do {
+            buffer[--index] = (byte) ('0' + (int) (value % 10));
+            value /= 10;
+        } while (value != 0);
+        position = end;
+    }
+
+    private static int digitCount(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void ensureCapacity(int required) throws IOException {
+        if (position + required <= buffer.length) {
+            return;
+        }
+        drain();
+        if (required > buffer.length) {
+            buffer = new byte[Math.max(required, buffer.length * 2)];
+        }
+    }
+
+    private void drain() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
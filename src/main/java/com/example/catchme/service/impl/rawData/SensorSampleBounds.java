@@ -0,0 +1,107 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.dto.RawSensorDataRequest;
+import com.example.catchme.model.RawDataFile;
+import com.example.catchme.model.RawDataFormat;
+import com.example.catchme.model.User;
+
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 파일 1개에 기록되는 샘플의 수 / 첫·마지막 timestamp 누적 (RawDataFile 메타데이터용)
+ *
+ * ✔ 샘플 순서와 무관하게 최소 / 최대 timestamp 기록
+ * ✔ 파일 1개의 시간 범위 한도(raw-data.storage.max-file-span) 검사에도 사용
+ * ✔ 해석할 수 없는 timestamp는 범위 계산에서만 제외
+ *   (접수 단계에서 검증하므로 검증 도입 전에 WAL에 남은 샘플 재처리 시에만 해당)
+ */
+class SensorSampleBounds {
+
+    private final ZoneId zone;
+
+    private int sampleCount;
+    private long first = Long.MAX_VALUE;
+    private long last = Long.MIN_VALUE;
+
+    SensorSampleBounds(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    void add(RawSensorDataRequest sample) {
+        sampleCount++;
+
+        Long timestamp = parse(sample);
+        if (timestamp == null) {
+            return;
+        }
+        first = Math.min(first, timestamp);
+        last = Math.max(last, timestamp);
+    }
+
+    void addAll(List<RawSensorDataRequest> samples) {
+        for (RawSensorDataRequest sample : samples) {
+            add(sample);
+        }
+    }
+
+    void add(SensorSampleBounds other) {
+        sampleCount += other.sampleCount;
+        first = Math.min(first, other.first);
+        last = Math.max(last, other.last);
+    }
+
+    /**
+     * 샘플을 더해도 시간 범위가 maxSpanMillis 이내인지 (해석할 수 없는 timestamp는 범위에 영향 없음)
+     */
+    boolean fits(RawSensorDataRequest sample, long maxSpanMillis) {
+        Long timestamp = parse(sample);
+        if (timestamp == null) {
+            return true;
+        }
+        return spanWith(timestamp, timestamp) <= maxSpanMillis;
+    }
+
+    /**
+     * 다른 범위와 합쳐도 시간 범위가 maxSpanMillis 이내인지
+     */
+    boolean fits(SensorSampleBounds other, long maxSpanMillis) {
+        if (other.first > other.last) {
+            return true;
+        }
+        return spanWith(other.first, other.last) <= maxSpanMillis;
+    }
+
+    /** 첫 ~ 마지막 timestamp 간격 (범위가 없으면 0) */
+    long getSpanMillis() {
+        return first <= last ? last - first : 0;
+    }
+
+    int getSampleCount() {
+        return sampleCount;
+    }
+
+    private long spanWith(long otherFirst, long otherLast) {
+        return Math.max(last, otherLast) - Math.min(first, otherFirst);
+    }
+
+    private Long parse(RawSensorDataRequest sample) {
+        try {
+            return SensorTimestamps.toEpochMillis(sample.getTimestamp(), zone);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    RawDataFile toFile(User user, String objectKey, RawDataFormat format) {
+        boolean hasBounds = first <= last;
+        return RawDataFile.create(
+                user,
+                objectKey,
+                format,
+                sampleCount,
+                hasBounds ? first : null,
+                hasBounds ? last : null
+        );
+    }
+}
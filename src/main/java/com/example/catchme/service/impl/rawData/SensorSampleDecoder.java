@@ -0,0 +1,30 @@
+package com.example.catchme.service.impl.rawData;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 저장 형식(RawDataFormat)으로 기록된 파일을 순차적으로 읽어 샘플 단위로 전달
+ *
+ * ✔ 파일 전체를 메모리에 올리지 않음 (CSV: 행 단위, COLUMNAR: 블록 단위)
+ * ✔ 샘플을 객체로 만들지 않고 기본형 값 그대로 SampleVisitor에 전달
+ * 하위 스트림은 닫지 않으며, 스레드 안전하지 않다.
+ */
+interface SensorSampleDecoder {
+
+    void decode(InputStream in, SampleVisitor visitor) throws IOException;
+
+    @FunctionalInterface
+    interface SampleVisitor {
+        void accept(
+                long timestampMillis,
+                int pressure1,
+                int pressure2,
+                int pressure3,
+                int pressure4,
+                double accX,
+                double accY,
+                double accZ
+        );
+    }
+}
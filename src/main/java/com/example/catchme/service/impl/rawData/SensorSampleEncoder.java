@@ -0,0 +1,22 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.dto.RawSensorDataRequest;
+
+import java.io.IOException;
+
+/**
+ * 센서 샘플을 저장 형식(RawDataFormat)에 맞게 OutputStream으로 인코딩
+ *
+ * 사용 순서: start() → write() * N → finish()
+ * 하위 스트림은 닫지 않으며(FileStorageService 책임), 스레드 안전하지 않다.
+ */
+interface SensorSampleEncoder {
+
+    /** 파일 헤더 기록 */
+    void start() throws IOException;
+
+    void write(RawSensorDataRequest sample) throws IOException;
+
+    /** 남은 데이터를 모두 내보내고 파일을 마무리 */
+    void finish() throws IOException;
+}
@@ -0,0 +1,65 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.config.rawData.RawDataProperties;
+import com.example.catchme.model.RawDataFormat;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.time.ZoneId;
+
+/**
+ * 설정된 저장 형식(raw-data.storage.*)에 맞는 SensorSampleEncoder / SensorSampleDecoder 생성
+ */
+@Component
+@RequiredArgsConstructor
+class SensorSampleEncoderFactory {
+
+    private final RawDataProperties rawDataProperties;
+
+    /**
+     * 잘못된 저장 설정은 업로드 요청(400)이 아니라 시작 시점에 실패시킴
+     */
+    @PostConstruct
+    void validate() {
+        int blockSamples = rawDataProperties.getStorage().getBlockSamples();
+        if (blockSamples <= 0 || blockSamples > SensorColumnarDecoder.MAX_BLOCK_SAMPLES) {
+            // 디코더가 읽을 수 있는 블록 크기 이내
+            throw new IllegalStateException("raw-data.storage.block-samples는 1 ~ "
+                    + SensorColumnarDecoder.MAX_BLOCK_SAMPLES + " 이어야 합니다: " + blockSamples);
+        }
+        timestampZone();
+    }
+
+    /** 새로 업로드되는 파일에 사용할 저장 형식 */
+    RawDataFormat currentFormat() {
+        return rawDataProperties.getStorage().getFormat();
+    }
+
+    ZoneId timestampZone() {
+        return ZoneId.of(rawDataProperties.getStorage().getTimestampZone());
+    }
+
+    SensorSampleEncoder create(RawDataFormat format, OutputStream out) {
+        RawDataProperties.Storage storage = rawDataProperties.getStorage();
+
+        return switch (format) {
+            case CSV -> new SensorCsvEncoder(out);
+            case COLUMNAR -> new SensorColumnarEncoder(
+                    out,
+                    timestampZone(),
+                    storage.getBlockSamples(),
+                    storage.isCompression()
+            );
+        };
+    }
+
+    /** 저장된 파일의 형식(RawDataFile.format)에 맞는 디코더 */
+    SensorSampleDecoder createDecoder(RawDataFormat format) {
+        return switch (format) {
+            case CSV -> new SensorCsvDecoder(timestampZone());
+            case COLUMNAR -> new SensorColumnarDecoder();
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.catchme.service.impl.rawData;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * 센서 샘플의 문자열 timestamp → epoch millis 변환
+ *
+ * 허용 형식:
+ * - epoch millis 숫자 문자열 (예: 1766745000123)
+ * - 오프셋 포함 ISO-8601 (예: 2025-12-26T19:30:00.123+09:00, ...Z)
+ * - 오프셋 없는 ISO-8601 (예: 2025-12-26T19:30:00.123 / 2025-12-26 19:30:00.123) → zone 기준으로 해석
+ */
+public final class SensorTimestamps {
+
+    private SensorTimestamps() {
+    }
+
+    public static long toEpochMillis(String timestamp, ZoneId zone) {
+        if (timestamp == null || timestamp.isBlank()) {
+            throw new IllegalArgumentException("센서 샘플의 timestamp가 비어 있습니다.");
+        }
+
+        if (isDigits(timestamp)) {
+            return Long.parseLong(timestamp);
+        }
+
+        // "yyyy-MM-dd HH:mm:ss" 형태도 허용
+        String iso = timestamp.length() > 10 && timestamp.charAt(10) == ' '
+                ? timestamp.substring(0, 10) + 'T' + timestamp.substring(11)
+                : timestamp;
+
+        try {
+            TemporalAccessor parsed = DateTimeFormatter.ISO_DATE_TIME
+                    .parseBest(iso, OffsetDateTime::from, LocalDateTime::from);
+
+            if (parsed instanceof OffsetDateTime offsetDateTime) {
+                return offsetDateTime.toInstant().toEpochMilli();
+            }
+            return ((LocalDateTime) parsed).atZone(zone).toInstant().toEpochMilli();
+
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("센서 샘플의 timestamp 형식이 올바르지 않습니다: " + timestamp);
+        }
+    }
+
+    private static boolean isDigits(String value) {
+        if (value.length() > 18) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
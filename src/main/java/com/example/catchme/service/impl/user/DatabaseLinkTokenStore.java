@@ -0,0 +1,65 @@
+package com.example.catchme.service.impl.user;
+
+import com.example.catchme.config.link.LinkProperties;
+import com.example.catchme.model.LinkToken;
+import com.example.catchme.repository.LinkTokenRepository;
+import com.example.catchme.service.interfaces.user.LinkTokenStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * DB 테이블(link_tokens) 기반 QR 토큰 저장소 (link.token-store=database)
+ *
+ * ✔ 모든 노드가 같은 테이블을 보므로 로드밸런서 뒤에서도 연동 가능
+ * ✔ 사용 처리는 조건부 delete 1회 → 삭제된 행이 있는 요청만 성공
+ */
+@Component
+@ConditionalOnProperty(prefix = "link", name = "token-store", havingValue = "database")
+public class DatabaseLinkTokenStore implements LinkTokenStore {
+
+    private final LinkTokenRepository linkTokenRepository;
+    private final int maxTokensPerUser;
+
+    public DatabaseLinkTokenStore(LinkTokenRepository linkTokenRepository, LinkProperties linkProperties) {
+        this.linkTokenRepository = linkTokenRepository;
+        this.maxTokensPerUser = linkProperties.getMaxTokensPerUser();
+    }
+
+    @Override
+    @Transactional
+    public void save(String token, Long userId, Duration ttl) {
+        linkTokenRepository.save(LinkToken.create(token, userId, LocalDateTime.now().plus(ttl)));
+        linkTokenRepository.flush();
+
+        // 사용자별 상한 초과분은 오래된 것부터 폐기
+        List<String> issued = linkTokenRepository.findTokensByUserIdNewestFirst(userId);
+        if (issued.size() > maxTokensPerUser) {
+            linkTokenRepository.deleteAllByTokenIn(issued.subList(maxTokensPerUser, issued.size()));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> find(String token) {
+        return linkTokenRepository.findUserIdByToken(token, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public boolean consume(String token) {
+        return linkTokenRepository.deleteValid(token, LocalDateTime.now()) == 1;
+    }
+
+    @Scheduled(fixedDelayString = "${link.sweep-interval:PT1M}")
+    @Transactional
+    public void sweepExpired() {
+        linkTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+}
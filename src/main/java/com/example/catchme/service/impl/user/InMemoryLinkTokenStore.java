@@ -0,0 +1,96 @@
+package com.example.catchme.service.impl.user;
+
+import com.example.catchme.config.link.LinkProperties;
+import com.example.catchme.service.interfaces.user.LinkTokenStore;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 노드용 메모리 QR 토큰 저장소 (link.token-store=memory)
+ *
+ * ✔ 만료 토큰은 주기적으로 정리 → 반복 생성해도 메모리가 쌓이지 않음
+ * ✔ 사용자별 발급 순서(Deque)로 상한 관리
+ */
+@Component
+@ConditionalOnProperty(prefix = "link", name = "token-store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLinkTokenStore implements LinkTokenStore {
+
+    private final int maxTokensPerUser;
+
+    private final Map<String, Entry> tokens = new ConcurrentHashMap<>();
+    private final Map<Long, Deque<String>> tokensByUser = new ConcurrentHashMap<>();
+
+    public InMemoryLinkTokenStore(LinkProperties linkProperties) {
+        this.maxTokensPerUser = linkProperties.getMaxTokensPerUser();
+    }
+
+    @Override
+    public void save(String token, Long userId, Duration ttl) {
+        tokens.put(token, new Entry(userId, System.nanoTime() + ttl.toNanos()));
+
+        // 사용자별 상한 초과분은 오래된 것부터 폐기
+        tokensByUser.compute(userId, (id, issued) -> {
+            Deque<String> deque = issued != null ? issued : new ArrayDeque<>();
+            deque.addLast(token);
+            while (deque.size() > maxTokensPerUser) {
+                tokens.remove(deque.removeFirst());
+            }
+            return deque;
+        });
+    }
+
+    @Override
+    public Optional<Long> find(String token) {
+        Entry entry = tokens.get(token);
+        if (entry == null || entry.isExpired(System.nanoTime())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.userId);
+    }
+
+    @Override
+    public boolean consume(String token) {
+        Entry entry = tokens.remove(token);
+        if (entry == null) {
+            return false;
+        }
+        forget(entry.userId, token);
+        return !entry.isExpired(System.nanoTime());
+    }
+
+    @Scheduled(fixedDelayString = "${link.sweep-interval:PT1M}")
+    void sweepExpired() {
+        long now = System.nanoTime();
+        tokens.forEach((token, entry) -> {
+            if (entry.isExpired(now) && tokens.remove(token, entry)) {
+                forget(entry.userId, token);
+            }
+        });
+    }
+
+    private void forget(Long userId, String token) {
+        tokensByUser.computeIfPresent(userId, (id, deque) -> {
+            deque.remove(token);
+            return deque.isEmpty() ? null : deque;
+        });
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final Long userId;
+        private final long expiresAtNanos;
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
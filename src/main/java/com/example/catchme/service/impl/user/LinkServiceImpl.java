@@ -1,25 +1,46 @@
 package com.example.catchme.service.impl.user;
 
+import com.example.catchme.config.auth.AuthenticatedUserCache;
+import com.example.catchme.config.link.LinkProperties;
+import com.example.catchme.dto.LinkedGuardianResponse;
+import com.example.catchme.dto.LinkedPatientPageResponse;
+import com.example.catchme.dto.LinkedPatientResponse;
 import com.example.catchme.dto.QrLinkTokenResponse;
+import com.example.catchme.exception.exceptions.PermissionDeniedException;
 import com.example.catchme.exception.exceptions.UserNotFoundException;
 import com.example.catchme.model.Role;
 import com.example.catchme.model.User;
+import com.example.catchme.model.UserLink;
+import com.example.catchme.repository.UserLinkRepository;
 import com.example.catchme.repository.UserRepository;
+import com.example.catchme.service.impl.alert.GuardianAlertHub;
 import com.example.catchme.service.interfaces.user.LinkService;
+import com.example.catchme.service.interfaces.user.LinkTokenStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class LinkServiceImpl implements LinkService {
     private final UserRepository userRepository;
+    private final UserLinkRepository userLinkRepository;
+    private final AuthenticatedUserCache authenticatedUserCache;
+    private final LinkTokenStore linkTokenStore;
+    private final LinkProperties linkProperties;
+    private final GuardianAlertHub guardianAlertHub;
 
-    private final Map<String,Long> tokenStore = new ConcurrentHashMap<>();
+    private static final int MAX_PAGE_SIZE = 200;
 
     /**
      * 환자(USER)가 QR 토큰 생성
@@ -33,12 +54,8 @@ public class LinkServiceImpl implements LinkService {
             throw new IllegalStateException("환자만 QR을 생성할 수 있습니다.");
         }
 
-        if (user.getLinkedUser() != null) {
-            throw new IllegalStateException("이미 보호자와 연동된 계정입니다.");
-        }
-
         String token = UUID.randomUUID().toString();
-        tokenStore.put(token, user.getId());
+        linkTokenStore.save(token, user.getId(), linkProperties.getTokenTtl());
 
         return new QrLinkTokenResponse(token);
     }
@@ -49,17 +66,23 @@ public class LinkServiceImpl implements LinkService {
     @Override
     @Transactional
     public void connectByQr(Long guardianId, String linkToken) {
-        Long userId = tokenStore.get(linkToken);
+        Long userId = linkTokenStore.find(linkToken)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않거나 만료된 QR 토큰입니다."));
 
-        if (userId == null) {
-            throw new IllegalArgumentException("유효하지 않거나 만료된 QR 토큰입니다.");
-        }
+        // 보호자 / 환자를 쿼리 1회로 조회
+        Map<Long, User> users = userRepository.findAllById(List.of(guardianId, userId))
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
 
-        User guardian = userRepository.findById(guardianId)
-                .orElseThrow(() -> new UserNotFoundException("보호자를 찾을 수 없습니다."));
+        User guardian = users.get(guardianId);
+        if (guardian == null) {
+            throw new UserNotFoundException("보호자를 찾을 수 없습니다.");
+        }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("환자를 찾을 수 없습니다."));
+        User user = users.get(userId);
+        if (user == null) {
+            throw new UserNotFoundException("환자를 찾을 수 없습니다.");
+        }
 
         // Role 검증
         if (guardian.getRole() != Role.GUARDIAN) {
@@ -70,16 +93,64 @@ public class LinkServiceImpl implements LinkService {
             throw new IllegalStateException("QR 대상이 환자가 아닙니다.");
         }
 
-        // 중복 연동 방지
-        if (guardian.getLinkedUser() != null || user.getLinkedUser() != null) {
-            throw new IllegalStateException("이미 연동된 계정이 존재합니다.");
+        // 중복 연동 방지 (동시 요청은 uk_user_links_guardian_patient 제약으로 차단)
+        if (userLinkRepository.existsLink(guardianId, userId)) {
+            throw new IllegalStateException("이미 연동된 계정입니다.");
         }
 
-        // 🔥 1:1 연동
-        guardian.setLinkedUser(user);
-        user.setLinkedUser(guardian);
+        // 🔥 N:M 연동 (보호자 1명이 여러 환자, 환자 1명이 여러 보호자)
+        try {
+            userLinkRepository.saveAndFlush(UserLink.create(guardian, user));
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("이미 연동된 계정입니다.");
+        }
+
+        // 캐시된 principal 무효화 (커밋 직후)
+        authenticatedUserCache.evictAfterCommit(guardianId, userId);
+
+        // 1회용 토큰 제거 (동시에 다른 요청이 먼저 사용했으면 실패 → rollback)
+        if (!linkTokenStore.consume(linkToken)) {
+            throw new IllegalArgumentException("유효하지 않거나 만료된 QR 토큰입니다.");
+        }
+    }
+
+    /**
+     * 보호자(GUARDIAN)에게 연동된 환자 목록 + 환자별 최근 업로드 파일 조회 (페이지 단위)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public LinkedPatientPageResponse getLinkedPatients(Long guardianId, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("page는 0 이상, size는 1 ~ " + MAX_PAGE_SIZE + " 이어야 합니다.");
+        }
+
+        Slice<LinkedPatientResponse> patients =
+                userLinkRepository.findPatientsOfGuardian(guardianId, PageRequest.of(page, size));
+
+        return new LinkedPatientPageResponse(patients.getContent(), page, size, patients.hasNext());
+    }
+
+    /**
+     * 환자(USER)에게 연동된 보호자 목록
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<LinkedGuardianResponse> getLinkedGuardians(Long patientId) {
+        return userLinkRepository.findGuardiansOfPatient(patientId);
+    }
+
+    /**
+     * 보호자(GUARDIAN)가 연동된 환자 알림을 SSE로 구독
+     */
+    @Override
+    public SseEmitter subscribeAlerts(Long guardianId) {
+        User guardian = userRepository.findById(guardianId)
+                .orElseThrow(() -> new UserNotFoundException("보호자를 찾을 수 없습니다."));
+
+        if (guardian.getRole() != Role.GUARDIAN) {
+            throw new PermissionDeniedException("보호자만 알림을 구독할 수 있습니다.");
+        }
 
-        // 1회용 토큰 제거
-        tokenStore.remove(linkToken);
+        return guardianAlertHub.subscribe(guardianId);
     }
 }
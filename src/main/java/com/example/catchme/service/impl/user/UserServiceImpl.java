@@ -1,23 +1,34 @@
 package com.example.catchme.service.impl.user;
 
+import com.example.catchme.config.auth.AuthenticatedUserCache;
+import com.example.catchme.config.auth.PasswordHashingExecutor;
+import com.example.catchme.config.auth.PasswordHashingExecutor.Priority;
+import com.example.catchme.config.auth.TokenVersionStore;
 import com.example.catchme.dto.NameUpdateRequest;
 import com.example.catchme.dto.PasswordUpdateRequest;
 import com.example.catchme.exception.exceptions.InvalidPasswordException;
 import com.example.catchme.exception.exceptions.UserNotFoundException;
 import com.example.catchme.model.User;
+import com.example.catchme.repository.RefreshTokenRepository;
+import com.example.catchme.repository.UserLinkRepository;
 import com.example.catchme.repository.UserRepository;
 import com.example.catchme.service.interfaces.user.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserLinkRepository userLinkRepository;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final AuthenticatedUserCache authenticatedUserCache;
+    private final TokenVersionStore tokenVersionStore;
 
     @Override
     @Transactional
@@ -29,6 +40,7 @@ public class UserServiceImpl implements UserService {
                 );
 
         user.updateName(request.getName());
+        authenticatedUserCache.evictAfterCommit(userId);
     }
 
     @Override
@@ -41,17 +53,25 @@ public class UserServiceImpl implements UserService {
                 );
 
         // 1️⃣ 현재 비밀번호 검증
-        if (!passwordEncoder.matches(
+        if (!passwordHashingExecutor.matches(
                 request.getCurrentPassword(),
-                user.getPassword()
+                user.getPassword(),
+                Priority.PASSWORD_CHANGE
         )) {
             throw new InvalidPasswordException("비밀번호가 올바르지 않습니다.");
         }
 
         // 2️⃣ 새 비밀번호 암호화 & 변경
         user.changePassword(
-                passwordEncoder.encode(request.getNewPassword())
+                passwordHashingExecutor.encode(request.getNewPassword(), Priority.PASSWORD_CHANGE)
         );
+
+        // 3️⃣ 기존 토큰 폐기 + 캐시된 principal 무효화 (커밋 직후)
+        user.revokeTokens();
+        refreshTokenRepository.revokeAllByUserId(userId);
+        long tokenVersion = user.getTokenVersion();
+        afterCommit(() -> tokenVersionStore.publish(userId, tokenVersion));
+        authenticatedUserCache.evictAfterCommit(userId);
     }
 
     @Override
@@ -63,7 +83,26 @@ public class UserServiceImpl implements UserService {
                         new UserNotFoundException("사용자를 찾을 수 없습니다.")
                 );
 
+        refreshTokenRepository.deleteAllByUserId(userId);
+        userLinkRepository.deleteAllByUserId(userId);
         userRepository.delete(user);
+        afterCommit(() -> tokenVersionStore.revokeAll(userId));
+        authenticatedUserCache.evictAfterCommit(userId);
     }
 
+    /**
+     * 커밋된 값만 토큰 버전 저장소에 반영 (롤백 시 반영하지 않음)
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
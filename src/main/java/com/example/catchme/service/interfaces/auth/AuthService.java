@@ -1,9 +1,13 @@
 package com.example.catchme.service.interfaces.auth;
 
 
+import com.example.catchme.dto.BulkSignupRequest;
+import com.example.catchme.dto.BulkSignupResponse;
 import com.example.catchme.dto.LoginRequest;
 import com.example.catchme.dto.LoginResponse;
+import com.example.catchme.dto.RefreshTokenRequest;
 import com.example.catchme.dto.SignupRequest;
+import com.example.catchme.model.User;
 
 public interface AuthService {
 
@@ -12,6 +16,19 @@ public interface AuthService {
      */
     void signup(SignupRequest request);
 
-    LoginResponse login(LoginRequest request);
+    /**
+     * 보호자(기관 담당자)의 사용자 일괄 등록
+     */
+    BulkSignupResponse bulkSignup(User requester, BulkSignupRequest request);
+
+    /**
+     * 로그인 처리 (clientIp는 시도 횟수 제한에 사용, 알 수 없으면 null)
+     */
+    LoginResponse login(LoginRequest request, String clientIp);
+
+    /**
+     * Refresh Token으로 토큰 재발급 (rotation)
+     */
+    LoginResponse refresh(RefreshTokenRequest request);
 }
 
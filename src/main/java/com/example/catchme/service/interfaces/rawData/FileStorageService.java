@@ -1,11 +1,31 @@
 package com.example.catchme.service.interfaces.rawData;
 
-import java.nio.file.Path;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 
 public interface FileStorageService {
 
     /**
-     * 로컬 파일을 S3에 업로드하고 objectKey를 반환
+     * writer가 OutputStream에 쓰는 내용을 로컬 파일 없이 그대로 업로드하고 objectKey를 반환
+     *
+     * ✔ 메모리 사용량은 업로드 1건당 최대 (maxConcurrentParts + 1) × partSize 이내로 유지됨
+     *   (채우는 중인 파트 1개 + 전송 중인 파트 최대 maxConcurrentParts개)
+     * ✔ writer가 예외를 던지면 업로드는 취소되고 object는 생성되지 않음
+     * ✔ OutputStream은 구현체가 닫으므로 writer는 flush까지만 책임짐
      */
-    String uploadCsv(Path filePath, String objectKey);
-}
\ No newline at end of file
+    String uploadStream(String objectKey, String contentType, StreamWriter writer);
+
+    /**
+     * objectKey의 내용을 처음부터 읽는 InputStream 반환
+     *
+     * ✔ 전체를 메모리에 올리지 않고 순차적으로 읽음
+     * ✔ 호출자가 반드시 닫아야 함 (연결 / 파일 핸들 반환)
+     */
+    InputStream openStream(String objectKey);
+
+    @FunctionalInterface
+    interface StreamWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
@@ -1,11 +1,49 @@
 package com.example.catchme.service.interfaces.rawData;
 
+import com.example.catchme.dto.RawDataAcceptResponse;
+import com.example.catchme.dto.RawDataBatchUploadResponse;
+import com.example.catchme.dto.RawDataFilePageResponse;
+import com.example.catchme.dto.RawDataRollupResponse;
 import com.example.catchme.dto.RawDataUploadResponse;
+import com.example.catchme.dto.RawSensorDataBatchRequest;
 import com.example.catchme.dto.RawSensorDataRequest;
 import com.example.catchme.model.User;
 
-import java.nio.file.Path;
+import java.io.InputStream;
+import java.time.Duration;
 
 public interface RawDataService {
     RawDataUploadResponse uploadRawDataAsCsv(User user, RawSensorDataRequest request);
-}
\ No newline at end of file
+
+    /**
+     * 여러 샘플을 파일 1개(S3 object 1개, 메타데이터 1행)로 묶어 업로드
+     */
+    RawDataBatchUploadResponse uploadRawDataBatchAsCsv(User user, RawSensorDataBatchRequest request);
+
+    /**
+     * 배치를 비동기 저장 큐에 접수하고 바로 반환 (큐 포화 시 RawDataIngestionBusyException)
+     */
+    RawDataBatchUploadResponse acceptRawDataBatch(User user, RawSensorDataBatchRequest request);
+
+    /**
+     * 샘플을 사용자별 시간 윈도우 버퍼에 추가 (윈도우 1개당 S3 object 1개로 저장)
+     */
+    RawDataAcceptResponse appendToWindow(User user, RawSensorDataBatchRequest request);
+
+    /**
+     * NDJSON(줄 단위 JSON) 샘플 스트림을 점진적으로 파싱하여 로컬 파일 없이 업로드
+     */
+    RawDataBatchUploadResponse uploadRawDataStreamAsCsv(User user, InputStream body);
+
+    /**
+     * 사용자의 [from, to) 구간과 겹치는 파일 목록 (keyset 페이지네이션)
+     * → userId가 없으면 본인, 있으면 본인 또는 연동된 환자만 조회 가능
+     */
+    RawDataFilePageResponse findFilesInRange(User requester, Long userId, String from, String to, String cursor, int size);
+
+    /**
+     * 사용자의 [from, to) 구간 rollup 조회
+     * → resolution을 만족하는 가장 큰 tier 선택 (없으면 maxPoints 이내의 가장 작은 tier)
+     */
+    RawDataRollupResponse findRollups(User requester, Long userId, String from, String to, Duration resolution);
+}
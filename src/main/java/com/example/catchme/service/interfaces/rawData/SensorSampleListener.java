@@ -0,0 +1,26 @@
+package com.example.catchme.service.interfaces.rawData;
+
+import com.example.catchme.dto.RawSensorDataRequest;
+import com.example.catchme.model.User;
+
+import java.util.List;
+
+/**
+ * 업로드로 접수된 센서 샘플을 저장과 별개로 실시간 처리하는 확장 지점
+ *
+ * ✔ RawDataServiceImpl이 접수 직후 요청 스레드에서 호출 → 빠르게 끝나야 함 (I/O 금지)
+ * ✔ 예외는 업로드 결과에 영향을 주지 않음 (로그만 남김)
+ */
+public interface SensorSampleListener {
+
+    void onSample(User user, RawSensorDataRequest sample);
+
+    /**
+     * 배치 단위 처리 (기본: 샘플마다 onSample)
+     */
+    default void onSamples(User user, List<RawSensorDataRequest> samples) {
+        for (RawSensorDataRequest sample : samples) {
+            onSample(user, sample);
+        }
+    }
+}
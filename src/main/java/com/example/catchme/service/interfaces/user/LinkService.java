@@ -1,11 +1,22 @@
 package com.example.catchme.service.interfaces.user;
 
+import com.example.catchme.dto.LinkedGuardianResponse;
+import com.example.catchme.dto.LinkedPatientPageResponse;
 import com.example.catchme.dto.QrLinkTokenResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
 
 public interface LinkService {
 
     QrLinkTokenResponse generateQrToken(Long userId);
 
     void connectByQr(Long guardianId, String linkToken);
+
+    LinkedPatientPageResponse getLinkedPatients(Long guardianId, int page, int size);
+
+    List<LinkedGuardianResponse> getLinkedGuardians(Long patientId);
+
+    SseEmitter subscribeAlerts(Long guardianId);
 }
 
@@ -0,0 +1,26 @@
+package com.example.catchme.service.interfaces.user;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 보호자 연동용 1회용 QR 토큰 저장소
+ *
+ * ✔ 토큰은 ttl이 지나면 조회되지 않음
+ * ✔ 사용자별 토큰 수 상한 초과 시 가장 오래된 토큰부터 폐기
+ * ✔ consume()은 여러 요청 / 노드가 동시에 호출해도 한 번만 성공
+ */
+public interface LinkTokenStore {
+
+    void save(String token, Long userId, Duration ttl);
+
+    /**
+     * 만료되지 않은 토큰의 사용자 id
+     */
+    Optional<Long> find(String token);
+
+    /**
+     * 토큰 사용 처리 (삭제), 이미 사용 / 만료되었으면 false
+     */
+    boolean consume(String token);
+}
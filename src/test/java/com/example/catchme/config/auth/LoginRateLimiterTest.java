@@ -0,0 +1,194 @@
+package com.example.catchme.config.auth;
+
+import com.example.catchme.exception.exceptions.LoginRateLimitedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginRateLimiterTest {
+
+    private static final long START = 1_000_000_000_000L;
+    private static final long INTERVAL = TimeUnit.SECONDS.toNanos(10);
+
+    @Test
+    void 버킷_크기만큼_연속_허용하고_초과하면_다시_시도할_시간과_함께_거절한다() {
+        LoginRateLimiter limiter = limiter(3, 100);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.checkLogin("user@example.com", null, START);
+        }
+
+        assertThatThrownBy(() -> limiter.checkLogin("user@example.com", null, START))
+                .isInstanceOfSatisfying(LoginRateLimitedException.class, e ->
+                        assertThat(e.getRetryAfterSeconds()).isBetween(10L, 11L));
+    }
+
+    @Test
+    void 재충전_간격마다_1회씩_다시_허용한다() {
+        LoginRateLimiter limiter = limiter(3, 100);
+        for (int i = 0; i < 3; i++) {
+            limiter.checkLogin("user@example.com", null, START);
+        }
+
+        long later = START + INTERVAL;
+        limiter.checkLogin("user@example.com", null, later);
+        assertThatThrownBy(() -> limiter.checkLogin("user@example.com", null, later))
+                .isInstanceOf(LoginRateLimitedException.class);
+    }
+
+    @Test
+    void 거절된_시도는_토큰을_소모하지_않는다() {
+        LoginRateLimiter limiter = limiter(1, 100);
+        limiter.checkLogin("user@example.com", null, START);
+
+        for (int i = 1; i <= 5; i++) {
+            long now = START + i;
+            assertThatThrownBy(() -> limiter.checkLogin("user@example.com", null, now))
+                    .isInstanceOf(LoginRateLimitedException.class);
+        }
+
+        assertThatCode(() -> limiter.checkLogin("user@example.com", null, START + INTERVAL))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void 유휴_기간이_길어도_버킷_크기_이상으로_쌓이지_않는다() {
+        LoginRateLimiter limiter = limiter(2, 100);
+        limiter.checkLogin("user@example.com", null, START);
+        long later = START + INTERVAL * 100;
+
+        limiter.checkLogin("user@example.com", null, later);
+        limiter.checkLogin("user@example.com", null, later);
+        assertThatThrownBy(() -> limiter.checkLogin("user@example.com", null, later))
+                .isInstanceOf(LoginRateLimitedException.class);
+    }
+
+    @Test
+    void email은_대소문자와_공백을_무시하고_같은_버킷을_쓴다() {
+        LoginRateLimiter limiter = limiter(1, 100);
+        limiter.checkLogin("User@Example.com ", null, START);
+
+        assertThatThrownBy(() -> limiter.checkLogin("user@example.com", null, START))
+                .isInstanceOf(LoginRateLimitedException.class);
+    }
+
+    @Test
+    void IP_제한은_email과_별도로_적용된다() {
+        LoginProtectionProperties properties = properties(100, 100);
+        properties.getIp().setCapacity(2);
+        properties.getIp().setRefillInterval(Duration.ofNanos(INTERVAL));
+        LoginRateLimiter limiter = new LoginRateLimiter(properties, new SimpleMeterRegistry());
+
+        limiter.checkLogin("a@example.com", "10.0.0.1", START);
+        limiter.checkLogin("b@example.com", "10.0.0.1", START);
+
+        assertThatThrownBy(() -> limiter.checkLogin("c@example.com", "10.0.0.1", START))
+                .isInstanceOf(LoginRateLimitedException.class);
+        assertThatCode(() -> limiter.checkLogin("c@example.com", "10.0.0.2", START))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void 항목_수_상한에서는_유휴_버킷을_정리한_뒤_새_키를_추적한다() {
+        LoginRateLimiter limiter = limiter(1, 1);
+        limiter.checkLogin("a@example.com", null, START);
+
+        // a가 다시 가득 찬 뒤에는 정리되고 b를 자기 버킷으로 추적
+        long later = START + INTERVAL;
+        limiter.checkLogin("b@example.com", null, later);
+        assertThatThrownBy(() -> limiter.checkLogin("b@example.com", null, later))
+                .isInstanceOf(LoginRateLimitedException.class);
+    }
+
+    @Test
+    void 항목_수_상한이_가득_차면_새_키들은_공유_버킷으로_제한한다() {
+        LoginRateLimiter limiter = limiter(1, 1);
+        limiter.checkLogin("a@example.com", null, START);
+
+        // 상한 초과 + 정리할 유휴 버킷 없음 → 새 키는 공유 버킷 사용
+        limiter.checkLogin("b@example.com", null, START);
+        assertThatThrownBy(() -> limiter.checkLogin("b@example.com", null, START))
+                .isInstanceOf(LoginRateLimitedException.class);
+        assertThatThrownBy(() -> limiter.checkLogin("c@example.com", null, START))
+                .isInstanceOf(LoginRateLimitedException.class);
+
+        // 이미 추적 중인 키는 자기 버킷 기준으로 그대로 제한
+        assertThatThrownBy(() -> limiter.checkLogin("a@example.com", null, START))
+                .isInstanceOf(LoginRateLimitedException.class);
+    }
+
+    @Test
+    void 주기_정리_후에도_제한_상태는_유지된다() {
+        LoginRateLimiter limiter = limiter(1, 100);
+        limiter.checkLogin("user@example.com", null, START);
+
+        limiter.sweepIdleBuckets(START + 1);
+
+        assertThatThrownBy(() -> limiter.checkLogin("user@example.com", null, START + 1))
+                .isInstanceOf(LoginRateLimitedException.class);
+    }
+
+    @Test
+    void 동시에_시도해도_버킷_크기만큼만_허용한다() throws Exception {
+        int capacity = 50;
+        LoginRateLimiter limiter = limiter(capacity, 100);
+        int threads = 8;
+        int attemptsPerThread = 100;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int allowed = 0;
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        try {
+                            limiter.checkLogin("user@example.com", null, START);
+                            allowed++;
+                        } catch (LoginRateLimitedException ignored) {
+                            // 초과 시도
+                        }
+                    }
+                    return allowed;
+                }));
+            }
+            start.countDown();
+
+            int allowed = 0;
+            for (Future<Integer> result : results) {
+                allowed += result.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(allowed).isEqualTo(capacity);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /* ========================================================= */
+
+    private static LoginRateLimiter limiter(int emailCapacity, int maxEntries) {
+        return new LoginRateLimiter(properties(emailCapacity, maxEntries), new SimpleMeterRegistry());
+    }
+
+    private static LoginProtectionProperties properties(int emailCapacity, int maxEntries) {
+        LoginProtectionProperties properties = new LoginProtectionProperties();
+        properties.getEmail().setCapacity(emailCapacity);
+        properties.getEmail().setRefillInterval(Duration.ofNanos(INTERVAL));
+        properties.setMaxEntries(maxEntries);
+        return properties;
+    }
+}
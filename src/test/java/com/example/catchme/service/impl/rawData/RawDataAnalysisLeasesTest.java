@@ -0,0 +1,228 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.config.rawData.RawDataProperties;
+import com.example.catchme.model.RawDataAnalysis;
+import com.example.catchme.model.RawDataFile;
+import com.example.catchme.model.RawDataFormat;
+import com.example.catchme.model.RawDataRollup;
+import com.example.catchme.model.Role;
+import com.example.catchme.model.RollupTier;
+import com.example.catchme.model.User;
+import com.example.catchme.repository.RawDataAnalysisRepository;
+import com.example.catchme.repository.RawDataFileRepository;
+import com.example.catchme.repository.RawDataRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RawDataAnalysisLeasesTest {
+
+    private static final String CLAIM = "node-1:claim";
+
+    private final RawDataFileRepository rawDataFileRepository = mock(RawDataFileRepository.class);
+    private final RawDataAnalysisRepository rawDataAnalysisRepository = mock(RawDataAnalysisRepository.class);
+    private final RawDataRollupRepository rawDataRollupRepository = mock(RawDataRollupRepository.class);
+    private final RawDataProperties properties = new RawDataProperties();
+
+    private final RawDataAnalysisLeases leases = new RawDataAnalysisLeases(
+            rawDataFileRepository, rawDataAnalysisRepository, rawDataRollupRepository, properties
+    );
+
+    @Test
+    void 후보가_없으면_점유하지_않는다() {
+        when(rawDataFileRepository.findAnalysisCandidateIds(anyInt(), any(), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        assertThat(leases.claim(CLAIM, 10)).isEmpty();
+        verify(rawDataFileRepository, never()).claimForAnalysis(anyList(), anyString(), any(), any());
+    }
+
+    @Test
+    void 다른_노드가_먼저_가져가면_빈_목록을_반환한다() {
+        when(rawDataFileRepository.findAnalysisCandidateIds(anyInt(), any(), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L));
+        when(rawDataFileRepository.claimForAnalysis(anyList(), anyString(), any(), any())).thenReturn(0);
+
+        assertThat(leases.claim(CLAIM, 10)).isEmpty();
+        verify(rawDataFileRepository, never()).findAllByAnalysisClaim(anyString());
+    }
+
+    @Test
+    void 점유한_파일은_lease_시간만큼_잡고_claim으로_조회한다() {
+        properties.getAnalysis().setLeaseDuration(Duration.ofMinutes(5));
+        RawDataFile file = file(1L, user(7L), 0L);
+        when(rawDataFileRepository.findAnalysisCandidateIds(anyInt(), any(), any(Pageable.class)))
+                .thenReturn(List.of(1L));
+        when(rawDataFileRepository.claimForAnalysis(anyList(), anyString(), any(), any())).thenReturn(1);
+        when(rawDataFileRepository.findAllByAnalysisClaim(CLAIM)).thenReturn(List.of(file));
+
+        List<RawDataFile> claimed = leases.claim(CLAIM, 10);
+
+        assertThat(claimed).containsExactly(file);
+        ArgumentCaptor<LocalDateTime> leaseUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(rawDataFileRepository).claimForAnalysis(eq(List.of(1L)), eq(CLAIM), leaseUntil.capture(), now.capture());
+        assertThat(Duration.between(now.getValue(), leaseUntil.getValue())).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    @Test
+    void 점유를_잃은_파일의_결과는_저장하지_않는다() {
+        User user = user(7L);
+        RawDataAnalysisResult owned = result(file(1L, user, 0L), null);
+        RawDataAnalysisResult lost = result(file(2L, user, 0L), null);
+        when(rawDataFileRepository.findIdsStillClaimed(List.of(1L, 2L), CLAIM)).thenReturn(List.of(1L));
+        when(rawDataFileRepository.markAnalyzed(List.of(1L), CLAIM)).thenReturn(1);
+
+        int completed = leases.complete(CLAIM, List.of(owned, lost));
+
+        assertThat(completed).isEqualTo(1);
+        verify(rawDataAnalysisRepository).saveAll(List.of(owned.getAnalysis()));
+        verify(rawDataFileRepository).markAnalyzed(List.of(1L), CLAIM);
+    }
+
+    @Test
+    void 모두_점유를_잃었으면_아무것도_반영하지_않는다() {
+        RawDataAnalysisResult lost = result(file(1L, user(7L), 0L), null);
+        when(rawDataFileRepository.findIdsStillClaimed(List.of(1L), CLAIM)).thenReturn(List.of());
+
+        assertThat(leases.complete(CLAIM, List.of(lost))).isZero();
+        verify(rawDataAnalysisRepository, never()).saveAll(anyList());
+        verify(rawDataFileRepository, never()).markAnalyzed(anyList(), anyString());
+    }
+
+    @Test
+    void 시간_범위가_없는_파일은_분석_결과로_보정한다() {
+        RawDataFile legacy = RawDataFile.create(user(7L), "raw-data/legacy.csv");
+        ReflectionTestUtils.setField(legacy, "id", 1L);
+        RawDataAnalysisResult result = new RawDataAnalysisResult(
+                RawDataAnalysis.create(legacy, 3, 1_000L, 3_000L), null
+        );
+        when(rawDataFileRepository.findIdsStillClaimed(List.of(1L), CLAIM)).thenReturn(List.of(1L));
+
+        leases.complete(CLAIM, List.of(result));
+
+        verify(rawDataFileRepository).fillSampleBounds(1L, 3, 1_000L, 3_000L);
+    }
+
+    @Test
+    void rollup은_기존_버킷에_합산하고_없는_버킷만_새로_만든다() {
+        User user = user(7L);
+        long base = 1_766_743_200_000L;     // 정시 → 세 tier의 버킷 경계가 같음
+        RawDataAnalysisResult result = result(file(1L, user, base), rollups(base, base + 2_500L));
+        when(rawDataFileRepository.findIdsStillClaimed(List.of(1L), CLAIM)).thenReturn(List.of(1L));
+
+        RawDataRollup existing = RawDataRollup.create(
+                user, RollupTier.SECOND, base, 10, channels(0), channels(100), channels(500)
+        );
+        when(rawDataRollupRepository.findForUpdate(7L, RollupTier.SECOND, base, base + 2_000L))
+                .thenReturn(List.of(existing));
+
+        leases.complete(CLAIM, List.of(result));
+
+        // 1초 tier: 잠금 범위는 [첫 버킷, 마지막 버킷], 기존 버킷은 합산
+        assertThat(existing.getSampleCount()).isEqualTo(11);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RawDataRollup>> created = ArgumentCaptor.forClass(List.class);
+        verify(rawDataRollupRepository, times(RollupTier.values().length)).saveAll(created.capture());
+        List<RawDataRollup> createdSeconds = created.getAllValues().get(RollupTier.SECOND.ordinal());
+        assertThat(createdSeconds).extracting(RawDataRollup::getBucketStart).containsExactly(base + 2_000L);
+
+        // 1분 / 1시간 tier: 기존 버킷이 없으므로 1개씩 새로 생성
+        assertThat(created.getAllValues().get(RollupTier.MINUTE.ordinal()))
+                .extracting(RawDataRollup::getBucketStart).containsExactly(base);
+        assertThat(created.getAllValues().get(RollupTier.HOUR.ordinal()))
+                .extracting(RawDataRollup::getBucketStart).containsExactly(base);
+    }
+
+    @Test
+    void rollup_잠금은_파일별_구간만_잡고_파일_사이의_빈_구간은_잠그지_않는다() {
+        User user = user(7L);
+        long base = 1_766_743_200_000L;
+        long nextDay = base + Duration.ofDays(1).toMillis();
+        RawDataAnalysisResult first = result(file(1L, user, base), rollups(base, base + 2_500L));
+        RawDataAnalysisResult second = result(file(2L, user, nextDay), rollups(nextDay + 1_000L));
+        RawDataAnalysisResult overlapping = result(file(3L, user, base), rollups(base + 1_000L, base + 3_000L));
+        when(rawDataFileRepository.findIdsStillClaimed(List.of(2L, 1L, 3L), CLAIM)).thenReturn(List.of(2L, 1L, 3L));
+
+        leases.complete(CLAIM, List.of(second, first, overlapping));
+
+        // 1초 tier: 겹치는 두 파일은 한 구간으로 합치고, 하루 뒤 파일은 따로 잠금
+        verify(rawDataRollupRepository).findForUpdate(7L, RollupTier.SECOND, base, base + 3_000L);
+        verify(rawDataRollupRepository).findForUpdate(7L, RollupTier.SECOND, nextDay + 1_000L, nextDay + 1_000L);
+        verify(rawDataRollupRepository, never())
+                .findForUpdate(eq(7L), eq(RollupTier.SECOND), eq(base), eq(nextDay + 1_000L));
+        verify(rawDataRollupRepository, times(2))
+                .findForUpdate(eq(7L), eq(RollupTier.HOUR), anyLong(), anyLong());
+    }
+
+    @Test
+    void 실패한_파일의_점유를_해제한다() {
+        leases.release(CLAIM, List.of());
+        verify(rawDataFileRepository, never()).releaseAnalysisClaim(anyList(), anyString());
+
+        leases.release(CLAIM, List.of(1L, 2L));
+        verify(rawDataFileRepository).releaseAnalysisClaim(List.of(1L, 2L), CLAIM);
+    }
+
+    /* ========================================================= */
+
+    private static User user(Long id) {
+        User user = User.builder()
+                .email("patient" + id + "@example.com")
+                .password("{noop}password")
+                .name("patient")
+                .role(Role.USER)
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    private static RawDataFile file(Long id, User user, long firstSampleAt) {
+        RawDataFile file = RawDataFile.create(
+                user, "raw-data/user-" + user.getId() + "/" + id + ".csv", RawDataFormat.CSV, 1, firstSampleAt, firstSampleAt
+        );
+        ReflectionTestUtils.setField(file, "id", id);
+        return file;
+    }
+
+    private static RawDataAnalysisResult result(RawDataFile file, RawDataRollupAccumulator rollups) {
+        return new RawDataAnalysisResult(
+                RawDataAnalysis.create(file, file.getSampleCount(), file.getFirstSampleAt(), file.getLastSampleAt()),
+                rollups
+        );
+    }
+
+    private static RawDataRollupAccumulator rollups(long... timestamps) {
+        RawDataRollupAccumulator accumulator = new RawDataRollupAccumulator();
+        for (long timestamp : timestamps) {
+            accumulator.accept(timestamp, 1, 2, 3, 4, 0.1, 0.2, 0.98);
+        }
+        return accumulator;
+    }
+
+    private static double[] channels(double value) {
+        double[] values = new double[RawDataRollup.CHANNELS];
+        Arrays.fill(values, value);
+        return values;
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.config.rawData.RawDataProperties;
+import com.example.catchme.dto.RawSensorDataRequest;
+import com.example.catchme.model.User;
+import com.example.catchme.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RawDataWriteAheadLogTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<RawDataWriteAheadLog> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeAll() throws InterruptedException {
+        for (RawDataWriteAheadLog wal : opened) {
+            wal.close();
+        }
+    }
+
+    @Test
+    void 비정상_종료_후_재시작하면_저장_완료된_레코드는_재처리하지_않는다() throws Exception {
+        RawDataWriteAheadLog wal = open();
+        long saved = wal.append(1L, samples("2025-01-01T00:00:00", "2025-01-01T00:00:01"));
+        wal.append(2L, samples("2025-01-01T00:00:02"));
+        wal.release(List.of(saved));
+
+        // close() 없이 같은 디렉터리로 재시작 (프로세스 강제 종료)
+        RawDataWriteAheadLog restarted = open();
+
+        List<RawDataWriteAheadLog.Record> records = readRecovered(restarted);
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).getUserId()).isEqualTo(2L);
+        assertThat(records.get(0).getSamples())
+                .extracting(RawSensorDataRequest::getTimestamp)
+                .containsExactly("2025-01-01T00:00:02");
+    }
+
+    @Test
+    void 정상_종료_시_모두_저장된_세그먼트는_삭제되어_재처리할_것이_없다() throws Exception {
+        RawDataWriteAheadLog wal = open();
+        long first = wal.append(1L, samples("2025-01-01T00:00:00"));
+        long second = wal.append(1L, samples("2025-01-01T00:00:01"));
+        wal.release(List.of(first, second));
+        wal.close();
+
+        RawDataWriteAheadLog restarted = open();
+
+        assertThat(restarted.getRecoveredSegments()).isEmpty();
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void 정상_종료_시_저장_대기_레코드는_남겨_재시작_후_재처리한다() throws Exception {
+        RawDataWriteAheadLog wal = open();
+        long saved = wal.append(1L, samples("2025-01-01T00:00:00"));
+        wal.append(1L, samples("2025-01-01T00:00:01"));
+        wal.release(List.of(saved));
+        wal.close();
+
+        RawDataWriteAheadLog restarted = open();
+
+        List<RawDataWriteAheadLog.Record> records = readRecovered(restarted);
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).getSamples().get(0).getTimestamp()).isEqualTo("2025-01-01T00:00:01");
+    }
+
+    @Test
+    void 같은_레코드를_여러_번_해제해도_다른_저장_대기_레코드는_남는다() throws Exception {
+        RawDataWriteAheadLog wal = open();
+        long saved = wal.append(1L, samples("2025-01-01T00:00:00"));
+        wal.append(1L, samples("2025-01-01T00:00:01"));
+        wal.release(List.of(saved));
+        wal.release(List.of(saved, saved));
+        wal.close();
+
+        RawDataWriteAheadLog restarted = open();
+
+        List<RawDataWriteAheadLog.Record> records = readRecovered(restarted);
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).getSamples().get(0).getTimestamp()).isEqualTo("2025-01-01T00:00:01");
+    }
+
+    @Test
+    void 재처리가_도중에_실패해도_이미_저장한_레코드는_다시_저장하지_않는다() throws Exception {
+        RawDataWriteAheadLog wal = open();
+        wal.append(1L, samples("2025-01-01T00:00:00", "2025-01-01T00:00:01"));
+        wal.append(1L, samples("2025-01-01T00:00:02", "2025-01-01T00:00:03"));
+
+        RawDataProperties properties = properties();
+        properties.getWindow().setMaxSamples(2);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user()));
+
+        // 1️⃣ 첫 재시작: 첫 청크 저장 후 두 번째 청크에서 실패
+        RawDataFileWriter failingWriter = mock(RawDataFileWriter.class);
+        doNothing().doThrow(new IllegalStateException("S3 unavailable")).when(failingWriter).write(any());
+        RawDataWriteAheadLog firstRestart = open();
+        new RawDataWalReplayer(firstRestart, failingWriter, userRepository, properties, new SensorSampleEncoderFactory(properties)).replay();
+
+        assertThat(firstRestart.getRecoveredSegments()).hasSize(1);
+
+        // 2️⃣ 두 번째 재시작: 남은 레코드만 저장하고 세그먼트 삭제
+        RawDataFileWriter writer = mock(RawDataFileWriter.class);
+        RawDataWriteAheadLog secondRestart = open();
+        new RawDataWalReplayer(secondRestart, writer, userRepository, properties, new SensorSampleEncoderFactory(properties)).replay();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RawSensorDataRequest>> chunk = ArgumentCaptor.forClass(List.class);
+        verify(writer, times(1)).newBatch(any(User.class), chunk.capture());
+        assertThat(chunk.getValue())
+                .extracting(RawSensorDataRequest::getTimestamp)
+                .containsExactly("2025-01-01T00:00:02", "2025-01-01T00:00:03");
+        assertThat(secondRestart.getRecoveredSegments()).isEmpty();
+    }
+
+    @Test
+    void 재처리_청크는_파일_시간_범위_한도를_넘지_않는다() throws Exception {
+        RawDataWriteAheadLog wal = open();
+        wal.append(1L, samples("2025-01-01T00:00:00", "2025-01-01T00:00:01"));
+        wal.append(1L, samples("2025-01-01T00:00:05", "2025-01-01T00:00:04"));
+
+        RawDataProperties properties = properties();
+        properties.getWindow().setMaxSamples(10);
+        properties.getStorage().setMaxFileSpan(Duration.ofSeconds(1));
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user()));
+
+        RawDataFileWriter writer = mock(RawDataFileWriter.class);
+        RawDataWriteAheadLog restart = open();
+        new RawDataWalReplayer(restart, writer, userRepository, properties, new SensorSampleEncoderFactory(properties)).replay();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RawSensorDataRequest>> chunk = ArgumentCaptor.forClass(List.class);
+        verify(writer, times(2)).newBatch(any(User.class), chunk.capture());
+        assertThat(chunk.getAllValues().get(0))
+                .extracting(RawSensorDataRequest::getTimestamp)
+                .containsExactly("2025-01-01T00:00:00", "2025-01-01T00:00:01");
+        assertThat(chunk.getAllValues().get(1))
+                .extracting(RawSensorDataRequest::getTimestamp)
+                .containsExactly("2025-01-01T00:00:05", "2025-01-01T00:00:04");
+        assertThat(restart.getRecoveredSegments()).isEmpty();
+    }
+
+    /* ========================================================= */
+
+    private RawDataWriteAheadLog open() throws Exception {
+        RawDataWriteAheadLog wal = new RawDataWriteAheadLog(properties());
+        opened.add(wal);
+        return wal;
+    }
+
+    private RawDataProperties properties() {
+        RawDataProperties properties = new RawDataProperties();
+        properties.getWal().setEnabled(true);
+        properties.getWal().setDirectory(directory.toString());
+        properties.getWal().setSegmentSize(DataSize.ofKilobytes(64));
+        return properties;
+    }
+
+    private static List<RawDataWriteAheadLog.Record> readRecovered(RawDataWriteAheadLog wal) {
+        List<RawDataWriteAheadLog.Record> records = new ArrayList<>();
+        for (Path segment : wal.getRecoveredSegments()) {
+            wal.readSegment(segment, records::add);
+        }
+        return records;
+    }
+
+    private static List<RawSensorDataRequest> samples(String... timestamps) {
+        List<RawSensorDataRequest> samples = new ArrayList<>();
+        for (int i = 0; i < timestamps.length; i++) {
+            samples.add(new RawSensorDataRequest(timestamps[i], i, i + 1, i + 2, i + 3, 0.1 * i, -0.2 * i, 9.8));
+        }
+        return samples;
+    }
+
+    private static User user() {
+        return User.builder()
+                .email("patient@example.com")
+                .password("encoded")
+                .name("patient")
+                .build();
+    }
+}
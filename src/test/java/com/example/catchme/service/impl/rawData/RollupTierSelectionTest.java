@@ -0,0 +1,71 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.config.rawData.RawDataProperties;
+import com.example.catchme.model.RollupTier;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RawDataServiceImpl.chooseTier (기본값: maxPoints 10000, 1초 7일 / 1분 180일 보관)
+ */
+class RollupTierSelectionTest {
+
+    private static final long NOW = 1_766_743_200_000L;
+
+    private final RawDataProperties.Rollup properties = new RawDataProperties().getRollup();
+
+    @Test
+    void resolution이_없으면_maxPoints_이내인_가장_작은_tier를_고른다() {
+        assertThat(choose(Duration.ofHours(1), null)).isEqualTo(RollupTier.SECOND);
+        assertThat(choose(Duration.ofSeconds(10_000), null)).isEqualTo(RollupTier.SECOND);
+        assertThat(choose(Duration.ofDays(1), null)).isEqualTo(RollupTier.MINUTE);
+    }
+
+    @Test
+    void resolution이_있으면_그_이하_중_가장_큰_tier를_고른다() {
+        assertThat(choose(Duration.ofHours(1), Duration.ofSeconds(30))).isEqualTo(RollupTier.SECOND);
+        assertThat(choose(Duration.ofHours(1), Duration.ofMinutes(1))).isEqualTo(RollupTier.MINUTE);
+        assertThat(choose(Duration.ofDays(2), Duration.ofHours(6))).isEqualTo(RollupTier.HOUR);
+    }
+
+    @Test
+    void 가장_작은_tier보다_작은_resolution은_가장_작은_tier를_쓴다() {
+        assertThat(choose(Duration.ofMinutes(1), Duration.ofMillis(500))).isEqualTo(RollupTier.SECOND);
+    }
+
+    @Test
+    void 보관_기간이_지난_구간은_더_큰_tier를_쓴다() {
+        long eightDaysAgo = NOW - Duration.ofDays(8).toMillis();
+        long yearAgo = NOW - Duration.ofDays(365).toMillis();
+
+        assertThat(RawDataServiceImpl.chooseTier(
+                eightDaysAgo, eightDaysAgo + Duration.ofHours(1).toMillis(), Duration.ofSeconds(1), NOW, properties
+        )).isEqualTo(RollupTier.MINUTE);
+        assertThat(RawDataServiceImpl.chooseTier(
+                yearAgo, yearAgo + Duration.ofHours(1).toMillis(), null, NOW, properties
+        )).isEqualTo(RollupTier.HOUR);
+    }
+
+    @Test
+    void 긴_구간은_보관_기간과_maxPoints를_함께_고려한다() {
+        // 30일: 1초 tier는 보관 기간 밖, 1분 tier는 43200개 → 1시간 tier
+        assertThat(choose(Duration.ofDays(30), null)).isEqualTo(RollupTier.HOUR);
+    }
+
+    @Test
+    void 버킷_수가_maxPoints를_넘는_resolution은_거절한다() {
+        assertThatThrownBy(() -> choose(Duration.ofDays(1), Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /* ========================================================= */
+
+    /** 지금까지의 range 구간 조회 */
+    private RollupTier choose(Duration range, Duration resolution) {
+        return RawDataServiceImpl.chooseTier(NOW - range.toMillis(), NOW, resolution, NOW, properties);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.dto.RawSensorDataRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SensorCsvEncoderTest {
+
+    @Test
+    void 헤더와_행을_기존_String_format_결과와_같게_기록한다() throws IOException {
+        RawSensorDataRequest sample =
+                new RawSensorDataRequest("2025-12-26T19:30:00.123", 1, -2, 300, 4000, 0.5025, -0.5085, 9.80665);
+
+        String csv = encode(sample);
+
+        assertThat(csv).isEqualTo("timestamp,p1,p2,p3,p4,acc_x,acc_y,acc_z\n"
+                + legacyRow(sample));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {
+            0.5025, -0.5085, 0.0005, -0.0005, 1.0005, 2.6745, 0.1235, -0.0, -0.0001, 0.0,
+            999.9995, 123456.7895, 1.0e9, -1.0e9, 1.0e-320, Double.NaN,
+            Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.MAX_VALUE
+    })
+    void 반올림_경계와_특수값도_String_format과_같다(double value) throws IOException {
+        assertThat(encodeAcc(value)).isEqualTo(String.format(Locale.ROOT, "%.3f", value));
+    }
+
+    @Test
+    void 소수점_4자리_값_전체에서_String_format과_같다() throws IOException {
+        for (int i = -200_000; i <= 200_000; i++) {
+            double value = i / 10_000.0;
+            assertThat(encodeAcc(value)).as("value=%s", value)
+                    .isEqualTo(String.format(Locale.ROOT, "%.3f", value));
+        }
+    }
+
+    @Test
+    void 임의의_실수에서_String_format과_같다() throws IOException {
+        Random random = new Random(20251226L);
+        for (int i = 0; i < 200_000; i++) {
+            double value = random.nextGaussian() * 20;
+            assertThat(encodeAcc(value)).as("value=%s", value)
+                    .isEqualTo(String.format(Locale.ROOT, "%.3f", value));
+        }
+    }
+
+    /* ========================================================= */
+
+    private static String encode(RawSensorDataRequest... samples) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SensorCsvEncoder encoder = new SensorCsvEncoder(out);
+        encoder.start();
+        for (RawSensorDataRequest sample : samples) {
+            encoder.write(sample);
+        }
+        encoder.finish();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String encodeAcc(double value) throws IOException {
+        String csv = encode(new RawSensorDataRequest("0", 0, 0, 0, 0, value, 0, 0));
+        String row = csv.substring(csv.indexOf('\n') + 1);
+        return row.split(",")[5];
+    }
+
+    private static String legacyRow(RawSensorDataRequest sample) {
+        return String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%.3f,%.3f,%.3f\n",
+                sample.getTimestamp(),
+                sample.getPressure1(),
+                sample.getPressure2(),
+                sample.getPressure3(),
+                sample.getPressure4(),
+                sample.getAccX(),
+                sample.getAccY(),
+                sample.getAccZ());
+    }
+}
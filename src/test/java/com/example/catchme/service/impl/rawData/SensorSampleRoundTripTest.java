@@ -0,0 +1,214 @@
+package com.example.catchme.service.impl.rawData;
+
+import com.example.catchme.dto.RawSensorDataRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class SensorSampleRoundTripTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    /** 블록 경계(블록 크기의 배수 ± 1)를 지나도록 작은 블록 사용 */
+    private static final int BLOCK_SAMPLES = 7;
+
+    static Stream<Arguments> codecs() {
+        return Stream.of(
+                Arguments.of("csv", (EncoderFactory) out -> new SensorCsvEncoder(out), new SensorCsvDecoder(ZONE)),
+                Arguments.of("columnar",
+                        (EncoderFactory) out -> new SensorColumnarEncoder(out, ZONE, BLOCK_SAMPLES, false),
+                        new SensorColumnarDecoder()),
+                Arguments.of("columnar+deflate",
+                        (EncoderFactory) out -> new SensorColumnarEncoder(out, ZONE, BLOCK_SAMPLES, true),
+                        new SensorColumnarDecoder())
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("codecs")
+    void 인코딩한_샘플을_그대로_디코딩한다(String name, EncoderFactory encoders, SensorSampleDecoder decoder) throws IOException {
+        for (int count : new int[]{1, BLOCK_SAMPLES - 1, BLOCK_SAMPLES, BLOCK_SAMPLES + 1, 200}) {
+            List<RawSensorDataRequest> samples = samples(count);
+
+            List<long[]> decoded = decode(decoder, encode(encoders, samples));
+
+            assertThat(decoded).as("count=%d", count).hasSize(count);
+            for (int i = 0; i < count; i++) {
+                RawSensorDataRequest sample = samples.get(i);
+                long[] row = decoded.get(i);
+                assertThat(row[0]).as("timestamp #%d", i)
+                        .isEqualTo(SensorTimestamps.toEpochMillis(sample.getTimestamp(), ZONE));
+                assertThat(row).as("pressure #%d", i).startsWith(
+                        row[0], sample.getPressure1(), sample.getPressure2(), sample.getPressure3(), sample.getPressure4()
+                );
+                assertThat(Double.longBitsToDouble(row[5])).isCloseTo(sample.getAccX(), within(1e-9));
+                assertThat(Double.longBitsToDouble(row[6])).isCloseTo(sample.getAccY(), within(1e-9));
+                assertThat(Double.longBitsToDouble(row[7])).isCloseTo(sample.getAccZ(), within(1e-9));
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("codecs")
+    void 샘플이_없는_파일은_아무것도_전달하지_않는다(String name, EncoderFactory encoders, SensorSampleDecoder decoder)
+            throws IOException {
+        assertThat(decode(decoder, encode(encoders, List.of()))).isEmpty();
+    }
+
+    @Test
+    void 가속도는_소수점_3자리로_반올림해_저장한다() throws IOException {
+        RawSensorDataRequest sample = new RawSensorDataRequest("0", 0, 0, 0, 0, 0.12345, -0.98765, 9.80665);
+
+        for (Arguments codec : codecs().toList()) {
+            EncoderFactory encoders = (EncoderFactory) codec.get()[1];
+            SensorSampleDecoder decoder = (SensorSampleDecoder) codec.get()[2];
+
+            long[] row = decode(decoder, encode(encoders, List.of(sample))).get(0);
+
+            assertThat(Double.longBitsToDouble(row[5])).as("%s", codec.get()[0]).isCloseTo(0.123, within(1e-9));
+            assertThat(Double.longBitsToDouble(row[6])).as("%s", codec.get()[0]).isCloseTo(-0.988, within(1e-9));
+            assertThat(Double.longBitsToDouble(row[7])).as("%s", codec.get()[0]).isCloseTo(9.807, within(1e-9));
+        }
+    }
+
+    @Test
+    void 블록_크기는_디코더가_읽을_수_있는_범위만_허용한다() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> new SensorColumnarEncoder(out, ZONE, 0, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SensorColumnarEncoder(out, ZONE, SensorColumnarDecoder.MAX_BLOCK_SAMPLES + 1, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest(name = "deflate={0}")
+    @ValueSource(booleans = {false, true})
+    void 최대_크기_블록도_다시_읽을_수_있다(boolean compress, @TempDir Path directory) throws IOException {
+        int count = SensorColumnarDecoder.MAX_BLOCK_SAMPLES;
+        Path file = directory.resolve("max-block.cmrd");
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            SensorSampleEncoder encoder = new SensorColumnarEncoder(out, ZONE, count, compress);
+            encoder.start();
+            for (int i = 0; i < count; i++) {
+                encoder.write(extremeSample(i));
+            }
+            encoder.finish();
+        }
+
+        // 샘플 100만 개를 목록으로 모으지 않고 읽는 즉시 비교
+        long[] decoded = new long[1];
+        long[] mismatches = new long[1];
+        try (InputStream in = Files.newInputStream(file)) {
+            new SensorColumnarDecoder().decode(in, (timestamp, p1, p2, p3, p4, accX, accY, accZ) -> {
+                RawSensorDataRequest expected = extremeSample((int) decoded[0]++);
+                if (timestamp != Long.parseLong(expected.getTimestamp())
+                        || p1 != expected.getPressure1() || p2 != expected.getPressure2()
+                        || p3 != expected.getPressure3() || p4 != expected.getPressure4()
+                        || accX != expected.getAccX() || accY != expected.getAccY() || accZ != expected.getAccZ()) {
+                    mismatches[0]++;
+                }
+            });
+        }
+
+        assertThat(decoded[0]).isEqualTo(count);
+        assertThat(mismatches[0]).isZero();
+    }
+
+    /* ========================================================= */
+
+    @FunctionalInterface
+    interface EncoderFactory {
+        SensorSampleEncoder create(ByteArrayOutputStream out);
+    }
+
+    private static byte[] encode(EncoderFactory encoders, List<RawSensorDataRequest> samples) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SensorSampleEncoder encoder = encoders.create(out);
+        encoder.start();
+        for (RawSensorDataRequest sample : samples) {
+            encoder.write(sample);
+        }
+        encoder.finish();
+        return out.toByteArray();
+    }
+
+    /** 행 = [timestamp, p1, p2, p3, p4, accX bits, accY bits, accZ bits] */
+    private static List<long[]> decode(SensorSampleDecoder decoder, byte[] file) throws IOException {
+        List<long[]> rows = new ArrayList<>();
+        decoder.decode(new ByteArrayInputStream(file), (timestamp, p1, p2, p3, p4, accX, accY, accZ) ->
+                rows.add(new long[]{
+                        timestamp, p1, p2, p3, p4,
+                        Double.doubleToLongBits(accX),
+                        Double.doubleToLongBits(accY),
+                        Double.doubleToLongBits(accZ)
+                })
+        );
+        return rows;
+    }
+
+    /**
+     * 이전 샘플과의 차이가 최대가 되도록 극단값을 번갈아 사용 (샘플당 바이트가 최대에 가까움)
+     */
+    private static RawSensorDataRequest extremeSample(int index) {
+        boolean even = index % 2 == 0;
+        int pressure = even ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        double acceleration = even ? -2.3e15 : 2.3e15;
+        return new RawSensorDataRequest(
+                even ? "0" : "999999999999999999",
+                pressure, pressure, pressure, pressure,
+                acceleration, acceleration, acceleration
+        );
+    }
+
+    /**
+     * 50Hz 샘플 (timestamp 형식을 섞고, 가속도는 소수점 3자리 값)
+     */
+    private static List<RawSensorDataRequest> samples(int count) {
+        Random random = new Random(20251226L + count);
+        long start = 1_766_745_000_000L;
+        List<RawSensorDataRequest> samples = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long millis = start + i * 20L;
+            String timestamp = switch (i % 3) {
+                case 0 -> Long.toString(millis);
+                case 1 -> Instant.ofEpochMilli(millis).atZone(ZONE).toLocalDateTime().toString();
+                default -> Instant.ofEpochMilli(millis).atOffset(ZoneOffset.UTC).toString();
+            };
+            samples.add(new RawSensorDataRequest(
+                    timestamp,
+                    random.nextInt(1024),
+                    random.nextInt(1024),
+                    random.nextInt(1024),
+                    random.nextInt(1024),
+                    Math.round(random.nextGaussian() * 300) / 1000.0,
+                    Math.round(random.nextGaussian() * 300) / 1000.0,
+                    Math.round(980 + random.nextGaussian() * 50) / 1000.0
+            ));
+        }
+        return samples;
+    }
+}